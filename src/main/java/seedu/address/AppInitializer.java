@@ -0,0 +1,265 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.LocationUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Sport;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.FormatDetectingAddressBookStorage;
+import seedu.address.storage.JournalLoadingException;
+import seedu.address.storage.JournalingAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, preferences, storage and model of the application, and saves the preferences on exit.
+ * Shared by the GUI in {@code MainApp} and the headless batch mode in {@code BatchMain}.
+ */
+class AppInitializer {
+
+    private static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code Storage} of the address book at {@code userPrefs}'s address book file path, in the format
+     * and with the backups and journal set in {@code userPrefs}, and of the preferences in {@code userPrefsStorage}.
+     */
+    static Storage initStorage(ReadOnlyUserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        AddressBookStorage addressBookStorage = new FormatDetectingAddressBookStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.isBinaryAddressBookFormat(),
+                userPrefs.getAddressBookBackupGenerations());
+        if (userPrefs.isAddressBookJournalEnabled()) {
+            addressBookStorage = new JournalingAddressBookStorage(addressBookStorage);
+        }
+        logger.info("Loaded UniquePersonList and UniqueGameList from " + userPrefs.getAddressBookFilePath());
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If the journal of {@code storage}'s address book cannot be read or replayed, it is kept aside and the data file
+     * is used without it. If the data file itself cannot be read, the data from its newest backup that can be read
+     * is used instead, or the sample address book if there is none, and the unreadable data file is kept aside.
+     */
+    static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = readAddressBookWithoutBadJournal(storage);
+        } catch (DataLoadingException e) {
+            initialData = recoverFromBackup(storage, userPrefs);
+        }
+
+        Model model = new ModelManager(initialData, userPrefs);
+        logger.fine("Location cache after loading the address book: " + LocationUtil.getLocationCache());
+        return model;
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, or the sample address book if it is not found.
+     * If its journal cannot be read or replayed, the journal is moved aside and the data file is read without it.
+     *
+     * @throws DataLoadingException if the data file cannot be read, or the journal cannot be moved aside.
+     */
+    private static ReadOnlyAddressBook readAddressBookWithoutBadJournal(Storage storage) throws DataLoadingException {
+        try {
+            return readAddressBook(storage);
+        } catch (JournalLoadingException e) {
+            Path journalFilePath = e.getJournalFilePath();
+            logger.warning("Journal at " + journalFilePath + " could not be loaded.");
+            try {
+                moveAside(journalFilePath);
+            } catch (IOException ioe) {
+                logger.warning("Failed to move aside the journal that could not be loaded: "
+                        + StringUtil.getDetails(ioe));
+                throw e;
+            }
+            return readAddressBook(storage);
+        }
+    }
+
+    private static ReadOnlyAddressBook readAddressBook(Storage storage) throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+        if (!addressBookOptional.isPresent()) {
+            logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                    + " populated with a sample AddressBook.");
+        }
+        return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+    }
+
+    /**
+     * Returns the data from the newest backup of {@code storage}'s address book that can be read, or the sample
+     * address book if there is none, after moving the data file that could not be read aside.
+     */
+    private static ReadOnlyAddressBook recoverFromBackup(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Path filePath = storage.getAddressBookFilePath();
+        logger.warning("Data file at " + filePath + " could not be loaded.");
+        ReadOnlyAddressBook initialData = readNewestBackup(storage, userPrefs).orElseGet(() -> {
+            logger.warning("No backup of " + filePath + " could be loaded."
+                    + " Will be starting with a sample AddressBook.");
+            return SampleDataUtil.getSampleAddressBook();
+        });
+        try {
+            moveAside(filePath);
+            // Replaces any journal left behind, which belongs to the data file that could not be loaded
+            storage.saveAddressBook(initialData);
+        } catch (IOException ioe) {
+            logger.warning("Failed to replace the data file that could not be loaded: "
+                    + StringUtil.getDetails(ioe));
+        }
+        return initialData;
+    }
+
+    /**
+     * Moves the file at {@code filePath}, which could not be loaded, to a sibling with the corrupt file suffix.
+     */
+    private static void moveAside(Path filePath) throws IOException {
+        Path corruptFilePath = filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_SUFFIX);
+        Files.move(filePath, corruptFilePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.warning("Moved the file that could not be loaded to " + corruptFilePath);
+    }
+
+    /**
+     * Returns the data from the newest backup of {@code storage}'s address book that can be loaded, if any.
+     */
+    private static Optional<ReadOnlyAddressBook> readNewestBackup(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        List<Path> backupFilePaths = FileUtil.getExistingBackupFilePaths(storage.getAddressBookFilePath(),
+                userPrefs.getAddressBookBackupGenerations());
+        for (Path backupFilePath : backupFilePaths) {
+            try {
+                Optional<ReadOnlyAddressBook> backup = storage.readAddressBook(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Recovered the address book from the backup at " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup at " + backupFilePath + " could not be loaded either.");
+            }
+        }
+        return Optional.empty();
+    }
+
+
+    /**
+     * Loads the global sports list from the path in {@code userPrefs}.
+     */
+    static void loadValidSports(ReadOnlyUserPrefs userPrefs) {
+        try {
+            Sport.loadValidSports(userPrefs.getGlobalSportsListFilePath());
+            logger.info("Loaded global sports list from " + userPrefs.getGlobalSportsListFilePath());
+        } catch (IOException e) {
+            logger.warning("Error loading global sports list: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves {@code model}'s user preferences to {@code storage}, and the global sports list to the path in them.
+     */
+    static void saveUserPrefsAndSports(Storage storage, Model model) {
+        try {
+            // Save user preferences
+            storage.saveUserPrefs(model.getUserPrefs());
+
+            // Save global sports list
+            Sport.saveValidSports(model.getUserPrefs().getGlobalSportsListFilePath());
+            logger.info("Saved global sports list to " + model.getUserPrefs().getGlobalSportsListFilePath());
+        } catch (IOException e) {
+            logger.severe("Failed to save application data: " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +17,19 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The value of the {@code script} parameter that reads the script from the standard input. */
+    public static final String STANDARD_INPUT_SCRIPT = "-";
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final int MAX_PORT = 65535;
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isBatchMode;
+    private Path scriptPath;
+    private int saveInterval;
+    private boolean isServerMode;
+    private int serverPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +39,87 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if the application should run the commands in a script without a GUI.
+     */
+    public boolean isBatchMode() {
+        return isBatchMode;
+    }
+
+    public void setBatchMode(boolean isBatchMode) {
+        this.isBatchMode = isBatchMode;
+    }
+
+    /**
+     * Returns the path of the script to run in batch mode, or null if the script is read from the standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the number of commands changing the address book after which batch mode saves it, or 0 if batch mode
+     * only saves it once all commands have run.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Returns true if the application should serve the address book over HTTP without a GUI.
+     */
+    public boolean isServerMode() {
+        return isServerMode;
+    }
+
+    public void setServerMode(boolean isServerMode) {
+        this.isServerMode = isServerMode;
+    }
+
+    /**
+     * Returns the local port to serve the address book on in server mode, or 0 to use any free port.
+     */
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(int serverPort) {
+        this.serverPort = serverPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, of which only named parameters of the form {@code --name=value} are
+     * recognized, as they are by JavaFX.
+     */
+    public static AppParameters parse(List<String> args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separator > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separator),
+                        arg.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +128,39 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptParameter = namedParameters.get("script");
+        if (scriptParameter != null && !scriptParameter.equals(STANDARD_INPUT_SCRIPT)
+                && !FileUtil.isValidPath(scriptParameter)) {
+            logger.warning("Invalid script path " + scriptParameter + ". Reading the script from standard input.");
+            scriptParameter = STANDARD_INPUT_SCRIPT;
+        }
+        appParameters.setBatchMode(scriptParameter != null);
+        appParameters.setScriptPath(scriptParameter != null && !scriptParameter.equals(STANDARD_INPUT_SCRIPT)
+                ? Paths.get(scriptParameter) : null);
+
+        String saveIntervalParameter = namedParameters.get("save-every");
+        if (saveIntervalParameter != null) {
+            try {
+                appParameters.setSaveInterval(Math.max(0, Integer.parseInt(saveIntervalParameter.trim())));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid save interval " + saveIntervalParameter + ". Saving once at the end.");
+            }
+        }
+
+        String serverPortParameter = namedParameters.get("serve");
+        if (serverPortParameter != null) {
+            try {
+                int serverPort = Integer.parseInt(serverPortParameter.trim());
+                if (serverPort < 0 || serverPort > MAX_PORT) {
+                    throw new NumberFormatException();
+                }
+                appParameters.setServerMode(true);
+                appParameters.setServerPort(serverPort);
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid server port " + serverPortParameter + ". Not starting the server.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -56,18 +176,28 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isBatchMode == otherAppParameters.isBatchMode
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && saveInterval == otherAppParameters.saveInterval
+                && isServerMode == otherAppParameters.isServerMode
+                && serverPort == otherAppParameters.serverPort;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isBatchMode, scriptPath, saveInterval, isServerMode, serverPort);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isBatchMode", isBatchMode)
+                .add("scriptPath", scriptPath)
+                .add("saveInterval", saveInterval)
+                .add("isServerMode", isServerMode)
+                .add("serverPort", serverPort)
                 .toString();
     }
 }
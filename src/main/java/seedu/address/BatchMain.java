@@ -0,0 +1,141 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the commands in a script without a GUI, one command per line, and prints the result of each.
+ * The address book is saved once all commands have run, or after every {@code --save-every} commands that change it.
+ */
+public class BatchMain {
+    public static final String COMMENT_PREFIX = "#";
+
+    static final String MESSAGE_COMMAND_FAILED = "Error: %s";
+    static final String MESSAGE_SAVE_FAILED = "Could not save the address book: %s";
+    static final String MESSAGE_SUMMARY =
+            "Ran %d commands (%d failed) in %d ms, %.1f commands/s; saved the address book %d times";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    private final LogicManager logic;
+    private int saveCount;
+
+    /**
+     * Creates a {@code BatchMain} that runs commands through {@code logic}.
+     */
+    public BatchMain(LogicManager logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        logic.setSaveStatusListener(status -> {
+            if (status.isEmpty()) {
+                saveCount++;
+            }
+        });
+    }
+
+    /**
+     * Runs the script given by the {@code --script} parameter in {@code args}, or read from the standard input if it
+     * is {@code -}, and exits with a non-zero status if any command failed or the address book could not be saved.
+     */
+    public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(userPrefs, userPrefsStorage);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        AppInitializer.loadValidSports(userPrefs);
+
+        BatchMain batchMain = new BatchMain(new LogicManager(model, storage, appParameters.getSaveInterval()));
+        boolean isSuccessful;
+        try (BufferedReader script = openScript(appParameters.getScriptPath())) {
+            isSuccessful = batchMain.run(script, System.out);
+        } catch (IOException e) {
+            logger.severe("Failed to read the script: " + StringUtil.getDetails(e));
+            isSuccessful = false;
+        }
+        AppInitializer.saveUserPrefsAndSports(storage, model);
+        System.exit(isSuccessful ? 0 : 1);
+    }
+
+    private static BufferedReader openScript(Path scriptPath) throws IOException {
+        if (scriptPath == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        logger.info("Running the script at " + scriptPath);
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs each command in {@code script} until it ends or an exit command is run, skipping blank lines and lines
+     * starting with {@value #COMMENT_PREFIX}, then saves the changes to the address book that have not been saved.
+     * The result of each command and a summary of the run are printed to {@code out}.
+     *
+     * @return true if every command succeeded and the address book was saved.
+     * @throws IOException if the script could not be read.
+     */
+    public boolean run(BufferedReader script, PrintStream out) throws IOException {
+        int commandCount = 0;
+        int failureCount = 0;
+        long startTime = System.nanoTime();
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            commandCount++;
+            out.println("> " + commandText);
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                out.println(String.format(MESSAGE_COMMAND_FAILED, e.getMessage()));
+            }
+        }
+
+        boolean isSaved = true;
+        try {
+            logic.saveUnsavedChanges();
+        } catch (IOException ioe) {
+            isSaved = false;
+            out.println(String.format(MESSAGE_SAVE_FAILED, ioe.getMessage()));
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        double commandsPerSecond = elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, failureCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond, saveCount));
+        return failureCount == 0 && isSaved;
+    }
+}
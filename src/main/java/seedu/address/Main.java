@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -25,6 +26,17 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        // Scripts and the HTTP API are served without starting JavaFX at all
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        if (appParameters.isBatchMode()) {
+            BatchMain.main(args);
+            return;
+        }
+        if (appParameters.isServerMode()) {
+            ServerMain.main(args);
+            return;
+        }
+
 
 
 
@@ -0,0 +1,73 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Serves the address book over a local HTTP API without a GUI, until an exit command is posted to it or the process
+ * is terminated. The address book is saved in the background as it is in the GUI, and once more on the way out.
+ */
+public class ServerMain {
+    private static final Logger logger = LogsCenter.getLogger(ServerMain.class);
+
+    /**
+     * Serves the address book on the port given by the {@code --serve} parameter in {@code args}.
+     */
+    public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(userPrefs, userPrefsStorage);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        AppInitializer.loadValidSports(userPrefs);
+
+        BackgroundAddressBookSaver addressBookSaver = new BackgroundAddressBookSaver(storage);
+        ApiServer server;
+        try {
+            server = new ApiServer(new LogicManager(model, storage, addressBookSaver), appParameters.getServerPort());
+        } catch (IOException e) {
+            logger.severe("Failed to start the server: " + StringUtil.getDetails(e));
+            System.exit(1);
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(server, addressBookSaver, storage, model)));
+        server.start();
+
+        try {
+            server.awaitExit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.exit(0);
+    }
+
+    private static void stop(ApiServer server, BackgroundAddressBookSaver addressBookSaver, Storage storage,
+            Model model) {
+        logger.info("============================ [ Stopping AddressBook server ] =============================");
+        server.stop();
+        logger.info("Request latencies: " + server.getLatencyStats());
+        try {
+            // Write the changes not yet saved in the background
+            addressBookSaver.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save the address book: " + StringUtil.getDetails(e));
+        }
+        AppInitializer.saveUserPrefsAndSports(storage, model);
+    }
+}
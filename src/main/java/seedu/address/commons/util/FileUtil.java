@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Writes and reads files
@@ -12,6 +20,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +85,116 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as by {@link #writeAtomically(Path, int, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, 0, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the content of {@code file} with the content written by {@code writer}, creating the file and its
+     * missing parent directories if needed.
+     * <p>
+     * The content is written to a temporary file in the same directory and forced to the disk before the temporary
+     * file is atomically moved over {@code file}, so that {@code file} always holds either its old or its new content
+     * in whole, even if the process is killed midway. If {@code backupGenerations} is positive, the old content is
+     * kept as the first of that many backup generations, found at {@link #getBackupFilePath(Path, int)}, and older
+     * generations are rotated, dropping the oldest.
+     *
+     * @throws IOException if the content could not be written, in which case {@code file} is left unchanged.
+     */
+    public static void writeAtomically(Path file, int backupGenerations, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writer.write(out);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            if (backupGenerations > 0 && isFileExists(file)) {
+                rotateBackups(file, backupGenerations);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Returns the path of the given {@code generation} of backups of {@code file}, where generation 1 is the newest.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Returns the paths of the existing backup generations of {@code file}, up to {@code backupGenerations} of them,
+     * from the newest to the oldest.
+     */
+    public static List<Path> getExistingBackupFilePaths(Path file, int backupGenerations) {
+        List<Path> backups = new ArrayList<>();
+        for (int generation = 1; generation <= backupGenerations; generation++) {
+            Path backup = getBackupFilePath(file, generation);
+            if (isFileExists(backup)) {
+                backups.add(backup);
+            }
+        }
+        return backups;
+    }
+
+    /**
+     * Shifts each backup generation of {@code file} one generation older and makes the current content of
+     * {@code file} the newest generation. The newest generation is a hard link to {@code file} where supported, so
+     * that {@code file} itself stays in place until it is replaced.
+     */
+    private static void rotateBackups(Path file, int backupGenerations) throws IOException {
+        Files.deleteIfExists(getBackupFilePath(file, backupGenerations));
+        for (int generation = backupGenerations - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(file, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path newestBackup = getBackupFilePath(file, 1);
+        try {
+            Files.createLink(newestBackup, file);
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            // Not every file system supports hard links
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it survives a crash.
+     * Not all platforms allow a directory to be opened, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // The move is still atomic, only its durability across a power failure is not guaranteed
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
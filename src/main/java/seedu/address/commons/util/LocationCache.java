@@ -0,0 +1,149 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import seedu.address.model.person.Location;
+
+/**
+ * A bounded cache of the {@code Location} of each postal code, at the address listed in the location data.
+ * {@code Location}s at the same postal code share the {@code Coordinates} and the postal code of the cached one, so
+ * that persons in the same block allocate one set of coordinates between them and compare their locations by
+ * reference. Once the cache holds more than {@code capacity} postal codes, the least recently used ones are evicted.
+ * <p>
+ * The cache counts its hits and misses. It is safe to use from several threads, which look up and load postal codes
+ * without waiting for each other. Recency is approximate: a postal code is stamped with the number of misses so far
+ * when it is used, so postal codes used between two misses are equally recent, and evictions are made in batches by
+ * whichever thread finds the cache over capacity first.
+ */
+public class LocationCache {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The fraction of the capacity evicted at once, so that most misses do not have to evict. */
+    private static final int EVICTION_BATCH_DIVISOR = 16;
+
+    private final int capacity;
+    private final Map<String, Entry> locations = new ConcurrentHashMap<>();
+    /** Advanced by every miss, and read by every hit to stamp the postal code used. */
+    private final AtomicLong clock = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * Creates an empty {@code LocationCache} that holds at most {@code capacity} postal codes.
+     */
+    public LocationCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the cached {@code Location} of {@code postalCode}, creating it with {@code loader} if it is not cached.
+     * The location is not cached if {@code loader} throws.
+     */
+    public Location get(String postalCode, Function<String, Location> loader) {
+        requireNonNull(postalCode);
+        requireNonNull(loader);
+        Entry entry = locations.get(postalCode);
+        if (entry != null) {
+            hitCount.increment();
+            entry.touch(clock.get());
+            return entry.location;
+        }
+        missCount.increment();
+
+        Location location = loader.apply(postalCode);
+        Entry cached = locations.putIfAbsent(postalCode, new Entry(location, clock.getAndIncrement()));
+        if (cached != null) {
+            return cached.location;
+        }
+        if (locations.size() > capacity) {
+            evictLeastRecentlyUsed();
+        }
+        return location;
+    }
+
+    /**
+     * Evicts the least recently used postal codes until a batch of free space is left, unless another thread is
+     * already evicting.
+     */
+    private void evictLeastRecentlyUsed() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int targetSize = capacity - capacity / EVICTION_BATCH_DIVISOR;
+            List<Map.Entry<String, Entry>> entries = new ArrayList<>(locations.entrySet());
+            int evictionCount = entries.size() - targetSize;
+            if (evictionCount <= 0) {
+                return;
+            }
+            entries.sort(Comparator.comparingLong(mapEntry -> mapEntry.getValue().lastUsed));
+            for (int i = 0; i < evictionCount; i++) {
+                // Left in place if it was replaced meanwhile
+                locations.remove(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return locations.size();
+    }
+
+    /**
+     * Empties the cache and resets its hit and miss counts.
+     */
+    public void clear() {
+        locations.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d postal codes cached, %d hits, %d misses", size(), getHitCount(), getMissCount());
+    }
+
+    /**
+     * A cached location, and when it was last used.
+     */
+    private static class Entry {
+        private final Location location;
+        private volatile long lastUsed;
+
+        Entry(Location location, long lastUsed) {
+            this.location = location;
+            this.lastUsed = lastUsed;
+        }
+
+        void touch(long now) {
+            // Only written when it changes, so that frequent hits on the same postal code do not contend
+            if (lastUsed != now) {
+                lastUsed = now;
+            }
+        }
+    }
+}
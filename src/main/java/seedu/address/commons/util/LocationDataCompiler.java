@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compiles the JSON location data into the binary postal code table that {@code LocationUtil} opens without parsing.
+ * Run by the {@code compileLocationData} Gradle task with the paths of the JSON file and of the binary file to write.
+ */
+public class LocationDataCompiler {
+
+    /**
+     * Reads the JSON location data at {@code args[0]} and writes it as a binary postal code table to {@code args[1]}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LocationDataCompiler <json file> <binary file>");
+        }
+        Path jsonFile = Path.of(args[0]);
+        Path binaryFile = Path.of(args[1]);
+        compile(jsonFile, binaryFile);
+        System.out.println("Compiled " + jsonFile + " into " + binaryFile);
+    }
+
+    /**
+     * Reads the JSON location data at {@code jsonFile} and writes it as a binary postal code table to
+     * {@code binaryFile}, creating its parent directories if needed.
+     */
+    public static void compile(Path jsonFile, Path binaryFile) throws IOException {
+        PostalCodeTable table;
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            table = PostalCodeTable.read(in);
+        }
+        FileUtil.createParentDirsOfFile(binaryFile);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(binaryFile))) {
+            table.writeBinary(out);
+        }
+    }
+}
@@ -6,14 +6,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.util.HashMap;
-import java.util.Map;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Location;
@@ -33,27 +28,17 @@ import seedu.address.model.person.Location;
 public class LocationUtil {
 
 
-    private static final Map<String, RawLocationData> locationData = new HashMap<>();
+    private static final String LOCATION_DATA_RESOURCE = "locationdata/postal_code_data.json";
+    private static final String COMPILED_LOCATION_DATA_RESOURCE = "locationdata/postal_code_data.bin";
 
+    private static final Logger logger = LogsCenter.getLogger(LocationUtil.class);
 
-    private static final Path LOCATION_DATA_FILE;
+    private static final PostalCodeTable locationData;
+    private static final LocationCache locationCache = new LocationCache(LocationCache.DEFAULT_CAPACITY);
 
     static {
         try {
-            URL resource = LocationUtil.class.getClassLoader().getResource("locationdata/postal_code_data.json");
-            requireNonNull(resource, "Resource not found");
-
-            try (InputStream inputStream = LocationUtil.class.getClassLoader()
-                                 .getResourceAsStream("locationdata/postal_code_data.json")) {
-                requireNonNull(inputStream, "Resource not found");
-                LOCATION_DATA_FILE = Files.createTempFile("postal_code_data", ".json");
-                Files.copy(inputStream, LOCATION_DATA_FILE, StandardCopyOption.REPLACE_EXISTING);
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        try {
-            loadLocationData();
+            locationData = loadLocationData();
         } catch (DataLoadingException e) {
 
             e.printStackTrace();
@@ -63,25 +48,28 @@ public class LocationUtil {
     }
 
     /**
-     * Loads the postal code data from the JSON file using JsonUtil.
+     * Loads the postal code data from the binary table compiled at build time, which is opened without parsing.
+     * If the compiled table is missing or unreadable, as when running from sources that were not built by Gradle,
+     * falls back to streaming the JSON resource.
      *
-     * @throws DataLoadingException if loading the JSON file fails.
+     * @throws DataLoadingException if neither resource can be loaded.
      */
-    private static void loadLocationData() throws DataLoadingException {
-        try {
-
-            String jsonString = Files.readString(LOCATION_DATA_FILE);
-
-            Map<?, ?> rawMap = JsonUtil.fromJsonString(jsonString, Map.class);
-
-
-            ObjectMapper mapper = new ObjectMapper();
-            for (Map.Entry<?, ?> entry : rawMap.entrySet()) {
-                String postalCode = (String) entry.getKey();
+    private static PostalCodeTable loadLocationData() throws DataLoadingException {
+        URL compiledResource = LocationUtil.class.getClassLoader().getResource(COMPILED_LOCATION_DATA_RESOURCE);
+        if (compiledResource != null) {
+            try {
+                return PostalCodeTable.readBinary(compiledResource);
+            } catch (IOException e) {
+                logger.warning("Cannot open compiled location data, reading the JSON location data instead: " + e);
+            }
+        }
 
-                RawLocationData data = mapper.convertValue(entry.getValue(), RawLocationData.class);
-                locationData.put(postalCode, data);
+        try (InputStream inputStream = LocationUtil.class.getClassLoader()
+                .getResourceAsStream(LOCATION_DATA_RESOURCE)) {
+            if (inputStream == null) {
+                throw new DataLoadingException(new IOException("Resource not found: " + LOCATION_DATA_RESOURCE));
             }
+            return PostalCodeTable.read(inputStream);
         } catch (IOException e) {
             throw new DataLoadingException(e);
         }
@@ -89,46 +77,52 @@ public class LocationUtil {
 
     /**
      * Creates a {@code Location} object using the provided user address and postal code.
+     * The location shares its coordinates with every other location at the postal code that is still cached, and is
+     * the cached location itself if {@code address} is the address listed for the postal code.
      *
      * @param address the address entered by the user.
      * @param postalCode the postal code entered by the user.
-     * @return a new {@code Location} object with corresponding latitude and longitude.
+     * @return a {@code Location} object with corresponding latitude and longitude.
      * @throws IllegalArgumentException if the postal code is not found.
      */
     public static Location createLocation(Address address, String postalCode) {
         requireAllNonNull(address, postalCode);
-        requireNonNull(locationData, "Location data has not been loaded");
-
-        RawLocationData rawData = locationData.get(postalCode);
-        if (rawData == null) {
-            throw new IllegalArgumentException("Postal code not found: " + postalCode);
+        Location cached = createLocation(postalCode);
+        if (cached.getAddress().equals(address)) {
+            return cached;
         }
-
-
-
-
-        return new Location(postalCode, address, rawData.getLatitude(), rawData.getLongitude());
+        return new Location(cached.getPostalCode(), address, cached.getCoordinates());
     }
+
     /**
-     * Creates a {@code Location} object using the provided postal code.
+     * Creates a {@code Location} object using the provided postal code, at the address listed for it.
+     * Locations are cached per postal code, so the same instance is usually returned for the same postal code.
      *
      * @param postalCode the postal code entered by the user.
-     * @return a new {@code Location} object with corresponding latitude and longitude.
+     * @return a {@code Location} object with corresponding latitude and longitude.
      * @throws IllegalArgumentException if the postal code is not found.
      */
     public static Location createLocation(String postalCode) {
         requireAllNonNull(postalCode);
         requireNonNull(locationData, "Location data has not been loaded");
+        return locationCache.get(postalCode, LocationUtil::loadLocation);
+    }
 
-        RawLocationData rawData = locationData.get(postalCode);
-        if (rawData == null) {
+    private static Location loadLocation(String postalCode) {
+        int index = locationData.indexOf(postalCode);
+        if (index < 0) {
             throw new IllegalArgumentException("Postal code not found: " + postalCode);
         }
 
+        Address address = new Address(locationData.getAddress(index));
+        return new Location(postalCode, address, locationData.getLatitude(index), locationData.getLongitude(index));
+    }
 
-
-        Address address = new Address(rawData.getAddress());
-        return new Location(postalCode, address, rawData.getLatitude(), rawData.getLongitude());
+    /**
+     * Returns the cache of locations created by this class, with its hit and miss counts.
+     */
+    public static LocationCache getLocationCache() {
+        return locationCache;
     }
 
     /**
@@ -139,6 +133,6 @@ public class LocationUtil {
      * @return true if the postal code exists in the location data, false otherwise
      */
     public static boolean isValidPostalCode(String postalCode) {
-        return locationData.containsKey(postalCode);
+        return postalCode != null && locationData.indexOf(postalCode) >= 0;
     }
 }
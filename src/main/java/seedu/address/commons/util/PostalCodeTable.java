@@ -0,0 +1,347 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * An immutable table of the latitude, longitude and address of each postal code, held in a {@code ByteBuffer} of
+ * fixed-width entries sorted by postal code and looked up by binary search.
+ * <p>
+ * The buffer starts with {@link #MAGIC}, a format version, the number of entries and the number of addresses. Each
+ * entry then takes {@value #ENTRY_SIZE} bytes: the postal code as an {@code int}, the latitude and longitude as
+ * {@code double}s, and the position of its address. The entries are followed by the offsets of the addresses and by
+ * the addresses in UTF-8, each stored once however many postal codes share it.
+ * <p>
+ * A table is either read from the JSON location data, or opened over a binary resource written by
+ * {@link #writeBinary(OutputStream)}, which needs no parsing. Postal codes are stored as {@code int}s, so only postal
+ * codes of {@value #POSTAL_CODE_LENGTH} digits are held.
+ */
+final class PostalCodeTable {
+
+    static final int POSTAL_CODE_LENGTH = 6;
+    static final byte[] MAGIC = {(byte) 0x89, 'S', 'P', 'C'};
+    static final int FORMAT_VERSION = 1;
+    static final int ENTRY_SIZE = Integer.BYTES + 2 * Double.BYTES + Integer.BYTES;
+
+    private static final int HEADER_SIZE = MAGIC.length + 3 * Integer.BYTES;
+    private static final int LATITUDE_OFFSET = Integer.BYTES;
+    private static final int LONGITUDE_OFFSET = LATITUDE_OFFSET + Double.BYTES;
+    private static final int ADDRESS_INDEX_OFFSET = LONGITUDE_OFFSET + Double.BYTES;
+
+    private static final String ADDRESS_FIELD = "address";
+    private static final String LATITUDE_FIELD = "latitude";
+    private static final String LONGITUDE_FIELD = "longitude";
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(PostalCodeTable.class);
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int addressCount;
+    private final int addressOffsetsStart;
+    private final int addressesStart;
+
+    /**
+     * Creates a table over {@code buffer}, which must start with a header that matches its content.
+     */
+    private PostalCodeTable(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE) {
+            throw new IOException("Postal code table is truncated");
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) {
+                throw new IOException("Not a postal code table");
+            }
+        }
+        int version = buffer.getInt(MAGIC.length);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported postal code table version: " + version);
+        }
+        size = buffer.getInt(MAGIC.length + Integer.BYTES);
+        addressCount = buffer.getInt(MAGIC.length + 2 * Integer.BYTES);
+        long offsetsStart = HEADER_SIZE + (long) size * ENTRY_SIZE;
+        long addressesStart = offsetsStart + (addressCount + 1L) * Integer.BYTES;
+        if (size < 0 || addressCount < 0 || addressesStart > buffer.limit()
+                || addressesStart + buffer.getInt((int) offsetsStart + addressCount * Integer.BYTES)
+                        != buffer.limit()) {
+            throw new IOException("Postal code table is corrupted");
+        }
+        this.buffer = buffer;
+        this.addressOffsetsStart = (int) offsetsStart;
+        this.addressesStart = (int) addressesStart;
+    }
+
+    /**
+     * Reads a table from {@code in}, which holds a JSON object mapping each postal code to an object with its
+     * {@code address}, {@code latitude} and {@code longitude}. The JSON is parsed one token at a time, without
+     * building an object for each postal code. If a postal code appears more than once, its last entry is kept.
+     * Postal codes that are not {@value #POSTAL_CODE_LENGTH} digits long are skipped.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold such a JSON object.
+     */
+    static PostalCodeTable read(InputStream in) throws IOException {
+        requireNonNull(in);
+        Builder builder = new Builder();
+        int skippedCount = 0;
+        try (JsonParser parser = JsonUtil.createJsonParser(in)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                int postalCode = parsePostalCode(parser.getCurrentName());
+                expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+                if (postalCode < 0) {
+                    parser.skipChildren();
+                    skippedCount++;
+                    continue;
+                }
+                readEntry(parser, postalCode, builder);
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        if (skippedCount > 0) {
+            logger.warning("Skipped " + skippedCount + " malformed postal codes in the location data");
+        }
+        return builder.build();
+    }
+
+    /**
+     * Opens a table over the binary resource at {@code resource}, written by {@link #writeBinary(OutputStream)}.
+     * A resource in a file is mapped into memory. Any other resource, such as one in a JAR file, is copied into a
+     * direct buffer.
+     *
+     * @throws IOException if the resource cannot be read or is not a postal code table.
+     */
+    static PostalCodeTable readBinary(URL resource) throws IOException {
+        requireNonNull(resource);
+        if ("file".equals(resource.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(resource.toURI()), StandardOpenOption.READ)) {
+                return new PostalCodeTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                throw new IOException("Cannot open " + resource, e);
+            }
+        }
+        try (InputStream in = resource.openStream()) {
+            byte[] bytes = in.readAllBytes();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return new PostalCodeTable(buffer);
+        }
+    }
+
+    /**
+     * Writes this table to {@code out} in the binary form read by {@link #readBinary(URL)}.
+     */
+    void writeBinary(OutputStream out) throws IOException {
+        requireNonNull(out);
+        byte[] bytes = new byte[buffer.limit()];
+        buffer.get(0, bytes);
+        out.write(bytes);
+    }
+
+    private static void readEntry(JsonParser parser, int postalCode, Builder builder) throws IOException {
+        String address = null;
+        double latitude = 0;
+        double longitude = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case ADDRESS_FIELD:
+                address = valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                break;
+            case LATITUDE_FIELD:
+                latitude = parser.getValueAsDouble();
+                break;
+            case LONGITUDE_FIELD:
+                longitude = parser.getValueAsDouble();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        if (address == null) {
+            throw new JsonParseException(parser, "Missing address for postal code " + formatPostalCode(postalCode));
+        }
+        builder.add(postalCode, latitude, longitude, address);
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Returns {@code postalCode} as an {@code int}, or -1 if it is not {@value #POSTAL_CODE_LENGTH} digits long.
+     */
+    static int parsePostalCode(String postalCode) {
+        if (postalCode.length() != POSTAL_CODE_LENGTH) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < POSTAL_CODE_LENGTH; i++) {
+            char c = postalCode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns {@code postalCode} as a string of {@value #POSTAL_CODE_LENGTH} digits.
+     */
+    static String formatPostalCode(int postalCode) {
+        String digits = Integer.toString(postalCode);
+        return "0".repeat(POSTAL_CODE_LENGTH - digits.length()) + digits;
+    }
+
+    /**
+     * Returns the position of {@code postalCode} in this table, or -1 if the table does not have it.
+     */
+    int indexOf(String postalCode) {
+        requireNonNull(postalCode);
+        int value = parsePostalCode(postalCode);
+        if (value < 0) {
+            return -1;
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleValue = buffer.getInt(entryStart(middle));
+            if (middleValue < value) {
+                low = middle + 1;
+            } else if (middleValue > value) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getAddressCount() {
+        return addressCount;
+    }
+
+    double getLatitude(int index) {
+        return buffer.getDouble(entryStart(index) + LATITUDE_OFFSET);
+    }
+
+    double getLongitude(int index) {
+        return buffer.getDouble(entryStart(index) + LONGITUDE_OFFSET);
+    }
+
+    String getAddress(int index) {
+        int addressIndex = buffer.getInt(entryStart(index) + ADDRESS_INDEX_OFFSET);
+        int start = buffer.getInt(addressOffsetsStart + addressIndex * Integer.BYTES);
+        int end = buffer.getInt(addressOffsetsStart + (addressIndex + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        buffer.get(addressesStart + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int entryStart(int index) {
+        Objects.checkIndex(index, size);
+        return HEADER_SIZE + index * ENTRY_SIZE;
+    }
+
+    /**
+     * Collects the entries of a table in any order, and sorts them by postal code when the table is built.
+     */
+    private static class Builder {
+        private final Map<String, Integer> addressPool = new HashMap<>();
+        private int[] postalCodes = new int[INITIAL_CAPACITY];
+        private double[] latitudes = new double[INITIAL_CAPACITY];
+        private double[] longitudes = new double[INITIAL_CAPACITY];
+        private int[] addressIndexes = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void add(int postalCode, double latitude, double longitude, String address) {
+            if (size == postalCodes.length) {
+                int capacity = size * 2;
+                postalCodes = Arrays.copyOf(postalCodes, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                addressIndexes = Arrays.copyOf(addressIndexes, capacity);
+            }
+            postalCodes[size] = postalCode;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            addressIndexes[size] = addressPool.computeIfAbsent(address, unused -> addressPool.size());
+            size++;
+        }
+
+        /**
+         * Sorts the entries by postal code, keeping the last entry of each postal code, and returns them as a table.
+         */
+        PostalCodeTable build() throws IOException {
+            // Each key holds a postal code above the position of its entry, so sorting the keys sorts the entries by
+            // postal code and then by position, without boxing either.
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = (long) postalCodes[i] << Integer.SIZE | i;
+            }
+            Arrays.sort(keys);
+            int count = 0;
+            for (int k = 0; k < size; k++) {
+                if (k + 1 == size || keys[k + 1] >>> Integer.SIZE != keys[k] >>> Integer.SIZE) {
+                    keys[count++] = keys[k];
+                }
+            }
+
+            byte[][] addresses = new byte[addressPool.size()][];
+            addressPool.forEach((address, index) -> addresses[index] = address.getBytes(StandardCharsets.UTF_8));
+            int addressesSize = 0;
+            for (byte[] address : addresses) {
+                addressesSize += address.length;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + count * ENTRY_SIZE
+                    + (addresses.length + 1) * Integer.BYTES + addressesSize);
+            buffer.put(MAGIC).putInt(FORMAT_VERSION).putInt(count).putInt(addresses.length);
+            for (int k = 0; k < count; k++) {
+                int i = (int) keys[k];
+                buffer.putInt(postalCodes[i]).putDouble(latitudes[i]).putDouble(longitudes[i])
+                        .putInt(addressIndexes[i]);
+            }
+            int offset = 0;
+            for (byte[] address : addresses) {
+                buffer.putInt(offset);
+                offset += address.length;
+            }
+            buffer.putInt(offset);
+            for (byte[] address : addresses) {
+                buffer.put(address);
+            }
+            buffer.flip();
+            return new PostalCodeTable(buffer);
+        }
+    }
+}
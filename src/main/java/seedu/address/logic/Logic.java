@@ -1,12 +1,18 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Person;
@@ -25,6 +31,48 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses and executes the command on a background thread, after every command submitted before it.
+     * The returned future completes with the result, or exceptionally with the {@code CommandException} or
+     * {@code ParseException} that {@link #execute(String)} would have thrown.
+     * Commands submitted this way should not be mixed with calls to {@link #execute(String)}.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Sets the executor that updates the lists returned by {@link #getFilteredPersonList()} and
+     * {@link #getFilteredGameList()}, e.g. {@code Platform::runLater}, so that they only change on its thread.
+     * Lists returned before this is called are not updated with it.
+     */
+    void setListUpdateExecutor(Executor listUpdateExecutor);
+
+    /**
+     * Waits for the commands submitted with {@link #executeAsync(String)} to finish, and rejects any submitted after.
+     */
+    void shutdown();
+
+    /**
+     * Sets the listener notified after each save of the address book, with the error message if the save failed, or
+     * an empty {@code Optional} if it succeeded. The listener may be notified on a background thread.
+     */
+    void setSaveStatusListener(Consumer<Optional<String>> listener);
+
+    /**
+     * Returns the version of the address book data as of its last completed change, without waiting for a command in
+     * progress.
+     *
+     * @see seedu.address.model.Model#getAddressBookVersion()
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the version of the address book data last saved successfully, or a negative number if none has been.
+     * The address book has unsaved changes while this differs from {@link #getAddressBookVersion()}.
+     */
+    long getLastSavedAddressBookVersion();
+
     /**
      * Returns the AddressBook.
      *
@@ -32,12 +80,28 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a copy of the address book as of its last completed change, which can be used from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    AddressBook getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons. */
     ObservableList<Person> getFilteredPersonList();
 
     /** Returns an unmodifiable view of the filtered list of games. */
     ObservableList<Game> getFilteredGameList();
 
+    /**
+     * Returns the participants of {@code game}.
+     * Once a list update executor has been set, the participants are found among the persons as of the lists last
+     * published, without waiting for a command in progress.
+     *
+     * @see seedu.address.model.Model#getParticipants(Game)
+     */
+    List<Person> getGameParticipants(Game game);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,8 +1,22 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,10 +27,15 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ChangedEntries;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -31,44 +50,307 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final BackgroundAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
 
+    private Consumer<Optional<String>> saveStatusListener = status -> {};
+    private final int saveInterval;
+    /** Whether a failed save fails the command that changed the address book, rather than being reported with it. */
+    private final boolean isSavePartOfCommand;
+
+    private long lastSavedVersion = BackgroundAddressBookSaver.NO_SAVED_VERSION;
+    private long unsavedVersion = BackgroundAddressBookSaver.NO_SAVED_VERSION;
+    private int unsavedCommandCount;
+
+    /** Runs the commands submitted with {@link #executeAsync(String)} one at a time, created when first needed. */
+    private ExecutorService commandExecutor;
+    private boolean isShutdown;
+
+    /** The lists shown to the caller once a list update executor has been set, or null before that. */
+    private ObservableListMirror<Person> personListMirror;
+    private ObservableListMirror<Game> gameListMirror;
+    private Executor listUpdateExecutor;
+    /**
+     * The persons by id as of the lists last published, in which the participants of the games shown are found.
+     * Changed only by the list update executor, with the changes made since {@link #publishedChange}.
+     */
+    private final Map<PersonId, Person> publishedPersons = new HashMap<>();
+    private AddressBookChange publishedChange;
+
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * to {@code storage} after every command before returning.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null, 1, true);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which hands the address book
+     * to {@code saver} after every command instead of waiting for it to be saved.
+     * If {@code saver} is null, the address book is saved to {@code storage} before every command returns.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver) {
+        this(model, storage, saver, 1, saver == null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the address book
+     * to {@code storage} only once {@code saveInterval} commands have changed it since it was last saved.
+     * If {@code saveInterval} is 0, the address book is only saved by {@link #saveUnsavedChanges()}.
+     * A command whose changes could not be saved still succeeds, and the save error is appended to its result.
+     */
+    public LogicManager(Model model, Storage storage, int saveInterval) {
+        this(model, storage, null, saveInterval, false);
+    }
+
+    private LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver, int saveInterval,
+            boolean isSavePartOfCommand) {
+        if (saveInterval < 0) {
+            throw new IllegalArgumentException("Save interval must not be negative: " + saveInterval);
+        }
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        this.saveInterval = saveInterval;
+        this.isSavePartOfCommand = isSavePartOfCommand;
         addressBookParser = new AddressBookParser();
+        if (saver != null) {
+            saver.setSaveListener(result -> notifySaveStatus(result.map(LogicManager::getSaveErrorMessage)));
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAndSave(commandText);
+        } finally {
+            // A command that changed the model may still fail, e.g. if the address book could not be saved
+            publishListChanges();
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        try {
+            getCommandExecutor().execute(() -> {
+                try {
+                    result.complete(execute(commandText));
+                } catch (CommandException | ParseException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private synchronized Executor getCommandExecutor() {
+        if (isShutdown) {
+            throw new RejectedExecutionException("Commands are no longer being executed");
+        }
+        if (commandExecutor == null) {
+            // A single thread, so that commands run in the order they were submitted
+            commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "command-executor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return commandExecutor;
+    }
+
+    @Override
+    public void shutdown() {
+        ExecutorService executor;
+        synchronized (this) {
+            isShutdown = true;
+            executor = commandExecutor;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void setListUpdateExecutor(Executor listUpdateExecutor) {
+        requireNonNull(listUpdateExecutor);
+        this.listUpdateExecutor = listUpdateExecutor;
+        publishedChange = getLastChange(model.getAddressBook());
+        model.getAddressBook().getPersonList().forEach(person -> publishedPersons.put(person.getId(), person));
+        personListMirror = new ObservableListMirror<>(model.getFilteredPersonList(), listUpdateExecutor);
+        gameListMirror = new ObservableListMirror<>(model.getFilteredGameList(), listUpdateExecutor);
+    }
+
+    private void publishListChanges() {
+        if (personListMirror != null) {
+            // Published before the lists, so that the games shown never refer to persons not published yet
+            publishPersons();
+            personListMirror.publish();
+            gameListMirror.publish();
+        }
+    }
+
+    /**
+     * Hands the persons changed since they were last published to the list update executor, which applies them to
+     * {@link #publishedPersons}. All persons are handed over if the changes are not known.
+     */
+    private void publishPersons() {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        AddressBookChange lastChange = getLastChange(addressBook);
+        if (lastChange != null && lastChange == publishedChange) {
+            return;
+        }
+        Optional<ChangedEntries> changes = lastChange != null && publishedChange != null
+                ? ((AddressBook) addressBook).getChangesSince(publishedChange)
+                : Optional.empty();
+        publishedChange = lastChange;
+        if (changes.isPresent()) {
+            List<PersonId> removedIds = changes.get().getRemovedPersonIds();
+            List<Person> changedPersons = changes.get().getChangedPersons();
+            if (!removedIds.isEmpty() || !changedPersons.isEmpty()) {
+                listUpdateExecutor.execute(() -> {
+                    removedIds.forEach(publishedPersons::remove);
+                    changedPersons.forEach(person -> publishedPersons.put(person.getId(), person));
+                });
+            }
+            return;
+        }
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        listUpdateExecutor.execute(() -> {
+            publishedPersons.clear();
+            persons.forEach(person -> publishedPersons.put(person.getId(), person));
+        });
+    }
+
+    private static AddressBookChange getLastChange(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBook ? ((AddressBook) addressBook).getLastChange() : null;
+    }
+
+    private CommandResult executeAndSave(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // Commands that do not change the address book leave its version as it was last saved, and skip saving
+        long version = model.getAddressBookVersion();
+        if (saver != null) {
+            Optional<IOException> failure = saver.takeFailure();
+            saver.requestSave(model::getAddressBookSnapshot, version);
+            if (failure.isPresent()) {
+                // The failed save was requested by an earlier command, which has already returned
+                commandResult = withSaveError(commandResult, failure.get());
+            }
+            return commandResult;
+        }
+
+        if (version == lastSavedVersion) {
+            return commandResult;
+        }
+        if (version != unsavedVersion) {
+            unsavedVersion = version;
+            unsavedCommandCount++;
+        }
+        if (saveInterval == 0 || unsavedCommandCount < saveInterval) {
+            return commandResult;
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saveAddressBook(version);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            if (isSavePartOfCommand) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
+            // The command was applied, and its changes are saved again with the next save
+            return withSaveError(commandResult, ioe);
         }
 
         return commandResult;
     }
 
+    private static CommandResult withSaveError(CommandResult commandResult, IOException ioe) {
+        return new CommandResult(commandResult.getFeedbackToUser() + "\n" + getSaveErrorMessage(ioe),
+                commandResult.isShowHelp(), commandResult.isExit());
+    }
+
+    /**
+     * Saves the changes to the address book that have not been saved yet, if any, and waits for them to be written.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    public void saveUnsavedChanges() throws IOException {
+        if (saver != null) {
+            saver.flush();
+            return;
+        }
+        long version = model.getAddressBookVersion();
+        if (version != lastSavedVersion) {
+            saveAddressBook(version);
+        }
+    }
+
+    private void saveAddressBook(long version) throws IOException {
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+        } catch (IOException ioe) {
+            notifySaveStatus(Optional.of(getSaveErrorMessage(ioe)));
+            throw ioe;
+        }
+        lastSavedVersion = version;
+        unsavedCommandCount = 0;
+        notifySaveStatus(Optional.empty());
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    private synchronized void notifySaveStatus(Optional<String> status) {
+        saveStatusListener.accept(status);
+    }
+
+    @Override
+    public synchronized void setSaveStatusListener(Consumer<Optional<String>> listener) {
+        requireNonNull(listener);
+        saveStatusListener = listener;
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return model.getAddressBookVersion();
+    }
+
+    @Override
+    public long getLastSavedAddressBookVersion() {
+        return saver != null ? saver.getLastSavedVersion() : lastSavedVersion;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBook getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return personListMirror != null ? personListMirror.getList() : model.getFilteredPersonList();
     }
 
     /**
@@ -77,7 +359,22 @@ public class LogicManager implements Logic {
      */
     @Override
     public ObservableList<Game> getFilteredGameList() {
-        return model.getFilteredGameList();
+        return gameListMirror != null ? gameListMirror.getList() : model.getFilteredGameList();
+    }
+
+    @Override
+    public List<Person> getGameParticipants(Game game) {
+        if (personListMirror == null) {
+            return model.getParticipants(game);
+        }
+        List<Person> participants = new ArrayList<>();
+        for (PersonId participantId : game.getParticipantIds()) {
+            Person participant = publishedPersons.get(participantId);
+            if (participant != null) {
+                participants.add(participant);
+            }
+        }
+        return participants;
     }
 
     @Override
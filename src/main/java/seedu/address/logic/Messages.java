@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -56,9 +57,9 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code game} for display to the user.
+     * Formats the {@code game}, whose participants are {@code participants}, for display to the user.
      */
-    public static String format(Game game) {
+    public static String format(Game game, List<Person> participants) {
         final StringBuilder builder = new StringBuilder();
         builder.append(game.getSport())
                 .append(" at ")
@@ -66,10 +67,10 @@ public class Messages {
                 .append(" on ")
                 .append(game.getDateTime())
                 .append(", Participants: ");
-        if (game.getParticipants().size() == 0) {
+        if (participants.size() == 0) {
             builder.append(0);
         } else {
-            String participantNameList = game.getParticipants().stream().map(person -> person.getName().fullName)
+            String participantNameList = participants.stream().map(person -> person.getName().fullName)
                     .collect(Collectors.joining(", "));
             builder.append(participantNameList);
         }
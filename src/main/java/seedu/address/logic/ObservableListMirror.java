@@ -0,0 +1,51 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that only changes on the thread of an update executor.
+ * The source list may be changed on any one thread at a time; {@link #publish()}, called on the thread that changed it,
+ * hands a copy of the source to the update executor, which replaces the contents of the mirror with it.
+ */
+class ObservableListMirror<T> {
+    private final ObservableList<T> source;
+    private final Executor updateExecutor;
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    private boolean isChanged;
+
+    /**
+     * Creates a mirror of {@code source} that starts as a copy of it and is updated with {@code updateExecutor}.
+     */
+    ObservableListMirror(ObservableList<T> source, Executor updateExecutor) {
+        this.source = source;
+        this.updateExecutor = updateExecutor;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener((ListChangeListener<T>) change -> isChanged = true);
+    }
+
+    /** Returns an unmodifiable view of the mirror. */
+    ObservableList<T> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Updates the mirror with the current contents of the source list, if it has changed since it was last published.
+     */
+    void publish() {
+        if (!isChanged) {
+            return;
+        }
+        isChanged = false;
+        // Copied now, as the source may change again before the update runs
+        List<T> contents = new ArrayList<>(source);
+        updateExecutor.execute(() -> mirror.setAll(contents));
+    }
+}
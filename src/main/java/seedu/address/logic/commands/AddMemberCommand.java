@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -9,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Sport;
 
 /**
@@ -67,19 +69,22 @@ public class AddMemberCommand extends Command {
             throw new CommandException(MESSAGE_SPORT_DELETED);
         }
 
-        if (model.isPersonUnique(memberName) == -1) {
+        int uniqueness = model.isPersonUnique(memberName);
+        if (uniqueness == -1) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSONS, memberName));
-        } else if (model.isPersonUnique(memberName) == 0) {
+        } else if (uniqueness == 0) {
             throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, memberName));
         }
         Person personToAdd = model.getPerson(memberName);
-        if (gameToEdit.getParticipants().contains(personToAdd)) {
+        if (gameToEdit.hasParticipant(personToAdd.getId())) {
             throw new CommandException(String.format(
                     MESSAGE_PERSON_EXISTS, memberName, gameToEdit));
         }
+        List<PersonId> participantIds = new ArrayList<>(gameToEdit.getParticipantIds());
+        participantIds.add(personToAdd.getId());
+        Game editedGame = gameToEdit.withParticipantIds(participantIds);
         model.deleteGame(gameToEdit);
-        gameToEdit.addParticipant(personToAdd);
-        model.addGame(gameToEdit);
+        model.addGame(editedGame);
 
         return new CommandResult(String.format(
                 MESSAGE_SUCCESS, personToAdd.getName().fullName, gameToEdit.getSport().sportName));
@@ -44,7 +44,7 @@ public class DeleteCommand extends Command {
 
 
         long gamesWithPerson = model.getGameList().stream()
-                .filter(game -> game.getParticipants().contains(personToDelete))
+                .filter(game -> game.hasParticipant(personToDelete.getId()))
                 .count();
 
         model.deletePerson(personToDelete);
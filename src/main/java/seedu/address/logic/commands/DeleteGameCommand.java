@@ -10,6 +10,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
 
 /**
  * Deletes a game identified using its displayed index from the address book.
@@ -41,8 +42,10 @@ public class DeleteGameCommand extends Command {
         }
 
         Game gameToDelete = lastShownList.get(targetIndex.getZeroBased());
+        List<Person> participants = model.getParticipants(gameToDelete);
         model.deleteGame(gameToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_GAME_SUCCESS, Messages.format(gameToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_GAME_SUCCESS,
+                Messages.format(gameToDelete, participants)));
     }
 
     @Override
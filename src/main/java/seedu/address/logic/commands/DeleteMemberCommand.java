@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -9,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * Removes a member (participant) from an existing game.
@@ -69,16 +71,18 @@ public class DeleteMemberCommand extends Command {
 
         Person personToRemove = model.getPerson(memberName);
 
-        if (!gameToEdit.getParticipants().contains(personToRemove)) {
+        if (!gameToEdit.hasParticipant(personToRemove.getId())) {
             throw new CommandException(String.format(
                     MESSAGE_PERSON_NOT_IN_GAME, memberName, gameToEdit.toString()));
         }
 
+        List<PersonId> participantIds = new ArrayList<>(gameToEdit.getParticipantIds());
+        participantIds.remove(personToRemove.getId());
+        Game editedGame = gameToEdit.withParticipantIds(participantIds);
         model.deleteGame(gameToEdit);
-        gameToEdit.removeParticipant(personToRemove);
-        model.addGame(gameToEdit);
+        model.addGame(editedGame);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, memberName, gameToEdit.toString()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, memberName, editedGame.toString()));
     }
 
     @Override
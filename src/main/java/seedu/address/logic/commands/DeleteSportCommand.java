@@ -95,28 +95,29 @@ public class DeleteSportCommand extends Command {
 
         String sportToDelete = sortedSports.get(targetIndex.getZeroBased());
 
-        // Delete the sport from the global list
-        Sport.deleteValidSport(targetIndex.getZeroBased());
-
-        // Remove this sport from all people who have it
-        List<Person> allPersons = model.getFilteredPersonList();
-        for (Person person : allPersons) {
-            Sport sport = new Sport(sportToDelete);
-            if (person.getSports().contains(sport)) {
-                List<Sport> updatedSports = new ArrayList<>(person.getSports());
-                updatedSports.remove(sport);
-                Person editedPerson = createEditedPerson(person, updatedSports);
-                model.setPerson(person, editedPerson);
+        // Remove this sport from all people who have it, and all games that use it, as a single change
+        Sport sport = new Sport(sportToDelete);
+        List<Person> allPersons = new ArrayList<>(model.getFilteredPersonList());
+        List<Game> allGames = new ArrayList<>(model.getGameList());
+        model.batch(tx -> {
+            for (Person person : allPersons) {
+                if (person.getSports().contains(sport)) {
+                    List<Sport> updatedSports = new ArrayList<>(person.getSports());
+                    updatedSports.remove(sport);
+                    Person editedPerson = createEditedPerson(person, updatedSports);
+                    tx.setPerson(person, editedPerson);
+                }
             }
-        }
 
-        // Remove all games that use this sport
-        List<Game> allGames = new ArrayList<>(model.getGameList());
-        for (Game game : allGames) {
-            if (game.getSport().sportName.equalsIgnoreCase(sportToDelete)) {
-                model.deleteGame(game);
+            for (Game game : allGames) {
+                if (game.getSport().sportName.equalsIgnoreCase(sportToDelete)) {
+                    tx.deleteGame(game);
+                }
             }
-        }
+        });
+
+        // Delete the sport from the global list only once no person or game holds it any more
+        Sport.deleteValidSport(targetIndex.getZeroBased());
 
         return new CommandResult(String.format(MESSAGE_DELETE_SPORT_SUCCESS_GLOBAL, sportToDelete));
     }
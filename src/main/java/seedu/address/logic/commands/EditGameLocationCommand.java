@@ -69,11 +69,11 @@ public class EditGameLocationCommand extends Command {
             throw new CommandException("Parsed location is invalid or empty.");
         }
 
+        Game changedGame = gameToChange.withLocation(LocationUtil.createLocation(newLocation));
         model.deleteGame(gameToChange);
-        gameToChange.setLocation(LocationUtil.createLocation(newLocation));
-        model.addGame(gameToChange);
+        model.addGame(changedGame);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, gameToChange));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, changedGame));
     }
 
     @Override
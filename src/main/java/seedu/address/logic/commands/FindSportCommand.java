@@ -1,7 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTAL_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RADIUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SPORT;
 
 import java.util.List;
@@ -24,11 +26,12 @@ public class FindSportCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who play a sport contained in "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: "
-            + "[" + PREFIX_POSTAL_CODE + "POSTAL_CODE] "
+            + "[" + PREFIX_POSTAL_CODE + "POSTAL_CODE [" + PREFIX_RADIUS + "RADIUS_KM] [" + PREFIX_LIMIT + "LIMIT]] "
             + PREFIX_SPORT + "SPORT_KEYWORD "
             + PREFIX_SPORT + "[MORE_SPORT_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_POSTAL_CODE + "018906 "
+            + PREFIX_RADIUS + "3 "
             + PREFIX_SPORT + "badminton "
             + PREFIX_SPORT + "volleyball "
             + PREFIX_SPORT + "cricket";
@@ -79,7 +82,7 @@ public class FindSportCommand extends Command {
         if (hasInvalidSport) {
             return new CommandResult(getInvalidSportMessage());
         }
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListBySports(sportKeywordList);
         model.sortFilteredPersonListAlphabetically();
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
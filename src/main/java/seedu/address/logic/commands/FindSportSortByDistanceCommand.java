@@ -3,24 +3,33 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.LocationUtil;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Sport;
 import seedu.address.model.person.SportContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book who play a sport contained in any of the argument keywords.
- * Then sorts them by distance from the address at the provided postal code.
+ * Then sorts them by distance from the address at the provided postal code, optionally keeping only those within a
+ * given radius of it, and only the given number of the nearest of them.
  * Keyword matching is case-insensitive.
  */
 public class FindSportSortByDistanceCommand extends FindSportCommand {
 
     public final String postalCode;
     public final Location locationToBeCompared;
+    public final Optional<Double> radiusKm;
+    public final Optional<Integer> limit;
+
     /**
      * Creates a FindSportCommand object to find persons who play certain sports
      *
@@ -29,9 +38,34 @@ public class FindSportSortByDistanceCommand extends FindSportCommand {
      */
     public FindSportSortByDistanceCommand(SportContainsKeywordsPredicate predicate,
                                           List<String> sportKeywordList, String postalCode) {
+        this(predicate, sportKeywordList, postalCode, Optional.empty());
+    }
+
+    /**
+     * Creates a FindSportCommand object to find persons who play certain sports within {@code radiusKm} kilometres
+     * of the address at {@code postalCode}, if a radius is given.
+     */
+    public FindSportSortByDistanceCommand(SportContainsKeywordsPredicate predicate,
+                                          List<String> sportKeywordList, String postalCode,
+                                          Optional<Double> radiusKm) {
+        this(predicate, sportKeywordList, postalCode, radiusKm, Optional.empty());
+    }
+
+    /**
+     * Creates a FindSportCommand object to find persons who play certain sports within {@code radiusKm} kilometres
+     * of the address at {@code postalCode}, if a radius is given, keeping only the nearest {@code limit} of them, if
+     * a limit is given.
+     */
+    public FindSportSortByDistanceCommand(SportContainsKeywordsPredicate predicate,
+                                          List<String> sportKeywordList, String postalCode,
+                                          Optional<Double> radiusKm, Optional<Integer> limit) {
         super(predicate, sportKeywordList);
+        requireNonNull(radiusKm);
+        requireNonNull(limit);
         this.postalCode = postalCode;
         this.locationToBeCompared = LocationUtil.createLocation(new Address("temp"), postalCode);
+        this.radiusKm = radiusKm;
+        this.limit = limit;
     }
 
     @Override
@@ -44,10 +78,32 @@ public class FindSportSortByDistanceCommand extends FindSportCommand {
         if (hasInvalidSport) {
             return new CommandResult(getInvalidSportMessage());
         }
-        model.updateFilteredPersonList(predicate);
+        if (limit.isPresent()) {
+            showNearest(model, limit.get());
+        } else if (radiusKm.isPresent()) {
+            model.updateFilteredPersonListBySportsWithinRadius(sportKeywordList, locationToBeCompared,
+                    radiusKm.get());
+        } else {
+            model.updateFilteredPersonListBySports(sportKeywordList);
+        }
         model.sortFilteredPersonListByDistance(locationToBeCompared);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                         model.getFilteredPersonList().size()));
     }
+
+    /**
+     * Shows only the nearest {@code limit} matching persons, found through the model's spatial index rather than by
+     * measuring and sorting every match. Only the persons within the radius, if given, are searched.
+     */
+    private void showNearest(Model model, int limit) {
+        List<Person> nearest = radiusKm.isPresent()
+                ? model.getNearestPersonsWithinRadius(locationToBeCompared, radiusKm.get(), limit, predicate)
+                : model.getNearestPersons(locationToBeCompared, limit, predicate);
+        // Kept by id, so that the persons found stay listed when they are edited
+        Set<PersonId> nearestIds = nearest.stream()
+                .map(Person::getId)
+                .collect(Collectors.toSet());
+        model.updateFilteredPersonList(person -> nearestIds.contains(person.getId()));
+    }
 }
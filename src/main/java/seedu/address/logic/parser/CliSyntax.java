@@ -15,4 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_SPORT = new Prefix("s/");
     public static final Prefix PREFIX_GAME_NAME = new Prefix("g/");
     public static final Prefix PREFIX_DATETIME = new Prefix("dt/");
+    public static final Prefix PREFIX_RADIUS = new Prefix("r/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("l/");
 }
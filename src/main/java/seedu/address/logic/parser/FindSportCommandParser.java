@@ -1,10 +1,13 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTAL_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RADIUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SPORT;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -27,9 +30,12 @@ public class FindSportCommandParser implements Parser<FindSportCommand> {
     public FindSportCommand parse(String args) throws ParseException {
         assert(args != null);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_POSTAL_CODE, PREFIX_SPORT);
+                ArgumentTokenizer.tokenize(args, PREFIX_POSTAL_CODE, PREFIX_RADIUS, PREFIX_LIMIT, PREFIX_SPORT);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_SPORT) || !argMultimap.getPreamble().isEmpty()) {
+        boolean isDistanceOptionPresent = argMultimap.getValue(PREFIX_RADIUS).isPresent()
+                || argMultimap.getValue(PREFIX_LIMIT).isPresent();
+        if (!arePrefixesPresent(argMultimap, PREFIX_SPORT) || !argMultimap.getPreamble().isEmpty()
+                || (isDistanceOptionPresent && !arePrefixesPresent(argMultimap, PREFIX_POSTAL_CODE))) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSportCommand.MESSAGE_USAGE));
         }
         List<Sport> sports;
@@ -50,10 +56,16 @@ public class FindSportCommandParser implements Parser<FindSportCommand> {
 
 
         if (arePrefixesPresent(argMultimap, PREFIX_POSTAL_CODE)) {
-            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POSTAL_CODE);
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POSTAL_CODE, PREFIX_RADIUS, PREFIX_LIMIT);
             String postalCode = ParserUtil.parsePostalCode(argMultimap.getValue(PREFIX_POSTAL_CODE).get());
+            Optional<Double> radiusKm = argMultimap.getValue(PREFIX_RADIUS).isPresent()
+                    ? Optional.of(ParserUtil.parseRadius(argMultimap.getValue(PREFIX_RADIUS).get()))
+                    : Optional.empty();
+            Optional<Integer> limit = argMultimap.getValue(PREFIX_LIMIT).isPresent()
+                    ? Optional.of(ParserUtil.parseLimit(argMultimap.getValue(PREFIX_LIMIT).get()))
+                    : Optional.empty();
             return new FindSportSortByDistanceCommand(new SportContainsKeywordsPredicate(sportKeywordList),
-                    sportKeywordList, postalCode);
+                    sportKeywordList, postalCode, radiusKm, limit);
         } else {
             return new FindSportCommand(new SportContainsKeywordsPredicate(sportKeywordList), sportKeywordList);
         }
@@ -27,6 +27,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_RADIUS = "Radius should be a positive number of kilometres.";
+    public static final String MESSAGE_INVALID_LIMIT = "Limit should be a positive integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it.
@@ -105,6 +107,42 @@ public class ParserUtil {
         return trimmedPostalCode;
     }
 
+    /**
+     * Parses a {@code String radius} in kilometres into a {@code double}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code radius} is not a positive, finite number.
+     */
+    public static double parseRadius(String radius) throws ParseException {
+        requireNonNull(radius);
+        String trimmedRadius = radius.trim();
+        double radiusKm;
+        try {
+            radiusKm = Double.parseDouble(trimmedRadius);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_RADIUS);
+        }
+        if (!(radiusKm > 0) || Double.isInfinite(radiusKm)) {
+            throw new ParseException(MESSAGE_INVALID_RADIUS);
+        }
+        return radiusKm;
+    }
+
+    /**
+     * Parses a {@code String limit} on the number of results into an {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code limit} is not a positive integer.
+     */
+    public static int parseLimit(String limit) throws ParseException {
+        requireNonNull(limit);
+        String trimmedLimit = limit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
     /**
      * Parses a {@code String email} into an {@code Email}.
      * Leading and trailing whitespaces will be trimmed.
@@ -2,24 +2,60 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.game.Game;
 import seedu.address.model.game.UniqueGameList;
+import seedu.address.model.person.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Sport;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level.
  * Duplicates are not allowed (by .isSamePerson comparison).
+ * Persons are also indexed by the sports they play and by where they live, so that sport and distance searches do
+ * not have to test every person, and games are indexed by their participants so that changes to a person only touch
+ * the games they take part in. Games refer to their participants by {@code PersonId}, which this address book resolves
+ * to the persons it holds.
+ * <p>
+ * A copy derived from an earlier copy by {@link #copyOf(AddressBook, AddressBook)} does not build its data until it
+ * is first used, so readers that only need the changes it holds, such as a journaling save, never pay for copying
+ * and indexing the whole address book.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueGameList games = new UniqueGameList();
+    private final SportIndex sportIndex = new SportIndex();
+    private final LocationIndex locationIndex = new LocationIndex();
+    private final ParticipationIndex participationIndex = new ParticipationIndex();
+
+    /** Advanced by every mutation, so that unchanged data need not be saved again. */
+    private long version;
+    private long versionBeforeBatch;
+
+    /** The last change made, from which the persons and games changed since an earlier state can be found. */
+    private AddressBookChange lastChange = AddressBookChange.start();
+    private AddressBookChange lastChangeBeforeBatch;
+
+    /** The copy this address book is derived from, until its own data is built on first use, and null after that. */
+    private volatile PendingCopy pendingCopy;
 
     /*
      * Non-static initialization block to avoid duplication between constructors.
@@ -39,13 +75,116 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
 
+    /**
+     * Returns an {@code AddressBook} with the Persons and Games in {@code toBeCopied}, which later changes to
+     * {@code toBeCopied} do not affect. Persons and games are immutable and are shared.
+     * The copy of an {@code AddressBook} is at the same version, and shares its changes.
+     */
+    public static AddressBook copyOf(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        AddressBook copy = new AddressBook();
+        copy.setPersons(toBeCopied.getPersonList());
+        copy.setGames(toBeCopied.getGameList());
+        if (toBeCopied instanceof AddressBook) {
+            copy.version = ((AddressBook) toBeCopied).version;
+            copy.lastChange = ((AddressBook) toBeCopied).lastChange;
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy of {@code toBeCopied} like {@link #copyOf(ReadOnlyAddressBook)}, derived from
+     * {@code earlierCopy}, an earlier copy of it, if the changes made since are known.
+     * A derived copy only follows the changes made since {@code earlierCopy} when it is taken. Its data is built from
+     * the last copy that was built and the changes made since, when it is first used.
+     */
+    static AddressBook copyOf(AddressBook toBeCopied, AddressBook earlierCopy) {
+        requireNonNull(toBeCopied);
+        toBeCopied.ensureBuilt();
+        if (earlierCopy == null || !toBeCopied.lastChange.follows(earlierCopy.lastChange)) {
+            return copyOf(toBeCopied);
+        }
+        PendingCopy earlierPendingCopy = earlierCopy.pendingCopy;
+        // Derived from a built copy, so that building this copy never has to build a chain of others first
+        AddressBook base = earlierPendingCopy == null ? earlierCopy : earlierPendingCopy.base;
+        AddressBook copy = new AddressBook();
+        copy.version = toBeCopied.version;
+        copy.lastChange = toBeCopied.lastChange;
+        copy.pendingCopy = new PendingCopy(base, toBeCopied.getEntryCount());
+        return copy;
+    }
+
+    /**
+     * Builds the data of this address book if it is a derived copy that has not been built yet.
+     */
+    private void ensureBuilt() {
+        if (pendingCopy != null) {
+            build();
+        }
+    }
+
+    /**
+     * Builds the data of this derived copy by replaying the changes made since its base on the data of the base, as
+     * the address book it was copied from made them: changed persons keep their position, added persons are appended
+     * and games are kept in date/time order.
+     */
+    private synchronized void build() {
+        PendingCopy pending = pendingCopy;
+        if (pending == null) {
+            return;
+        }
+        List<AddressBookChange> changes = lastChange.listSince(pending.base.lastChange).orElseThrow();
+
+        List<Person> personList = new ArrayList<>(pending.base.getPersonList());
+        Map<PersonId, Integer> positions = new HashMap<>();
+        for (int i = 0; i < personList.size(); i++) {
+            positions.put(personList.get(i).getId(), i);
+        }
+        NavigableMap<LocalDateTime, Game> gamesByDateTime = new TreeMap<>();
+        pending.base.getGameList().forEach(game -> gamesByDateTime.put(game.getDateTime(), game));
+
+        for (AddressBookChange change : changes) {
+            if (change.getPersonId() != null) {
+                Integer position = positions.get(change.getPersonId());
+                if (change.getPerson() == null) {
+                    // Left in place until the end, so that the positions of the persons after it still hold
+                    personList.set(position, null);
+                    positions.remove(change.getPersonId());
+                } else if (position != null) {
+                    personList.set(position, change.getPerson());
+                } else {
+                    positions.put(change.getPersonId(), personList.size());
+                    personList.add(change.getPerson());
+                }
+            }
+            if (change.getGameDateTime() != null) {
+                if (change.getGame() == null) {
+                    gamesByDateTime.remove(change.getGameDateTime());
+                } else {
+                    gamesByDateTime.put(change.getGameDateTime(), change.getGame());
+                }
+            }
+        }
+        personList.removeIf(Objects::isNull);
+        List<Game> gameList = new ArrayList<>(gamesByDateTime.values());
+
+        persons.setPersons(personList);
+        indexPersons(personList);
+        games.setGames(gameList);
+        indexGames(gameList);
+        pendingCopy = null;
+    }
 
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        ensureBuilt();
         this.persons.setPersons(persons);
+        indexPersons(persons);
+        version++;
+        lastChange = AddressBookChange.start();
     }
 
     /**
@@ -54,16 +193,106 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGames(List<Game> games) {
         requireNonNull(games);
+        ensureBuilt();
         this.games.setGames(games);
+        indexGames(games);
+        version++;
+        lastChange = AddressBookChange.start();
+    }
+
+    private void indexPersons(List<Person> persons) {
+        sportIndex.clear();
+        sportIndex.addAll(persons);
+        locationIndex.clear();
+        locationIndex.addAll(persons);
+    }
+
+    private void indexGames(List<Game> games) {
+        participationIndex.clear();
+        participationIndex.addAll(games);
+    }
+
+    /**
+     * Starts staging mutations in a batch. Until the batch is committed or rolled back, {@link #getPersonList()} and
+     * {@link #getGameList()} keep showing the data as it was before the batch, while every other operation sees the
+     * staged changes.
+     */
+    void beginBatch() {
+        ensureBuilt();
+        versionBeforeBatch = version;
+        lastChangeBeforeBatch = lastChange;
+        persons.beginBatch();
+        games.beginBatch();
+    }
+
+    /**
+     * Publishes the mutations staged since {@link #beginBatch()} as a single change to each of the person and game
+     * lists.
+     */
+    void commitBatch() {
+        persons.commitBatch();
+        games.commitBatch();
+    }
+
+    /**
+     * Discards the mutations staged since {@link #beginBatch()}.
+     */
+    void rollbackBatch() {
+        persons.rollbackBatch();
+        games.rollbackBatch();
+        indexPersons(getPersonList());
+        indexGames(getGameList());
+        version = versionBeforeBatch;
+        lastChange = lastChangeBeforeBatch;
+    }
+
+    /**
+     * Returns the version of the data in this address book, which advances with every mutation.
+     * Rolling back a batch restores the version from before the batch.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the last change made to this address book, which marks its current state for
+     * {@link #getChangesSince(AddressBookChange)}.
+     */
+    public AddressBookChange getLastChange() {
+        return lastChange;
+    }
+
+    /**
+     * Returns the persons and games changed since this address book, or the address book it was copied from, was
+     * at the state marked by {@code change}, or an empty {@code Optional} if those changes are no longer known.
+     */
+    public Optional<ChangedEntries> getChangesSince(AddressBookChange change) {
+        requireNonNull(change);
+        return lastChange.getChangesSince(change);
+    }
+
+    /**
+     * Returns the number of persons and games in this address book.
+     */
+    public int getEntryCount() {
+        PendingCopy pending = pendingCopy;
+        if (pending != null) {
+            return pending.entryCount;
+        }
+        return getPersonList().size() + getGameList().size();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * If {@code newData} is an {@code AddressBook}, this address book takes on its changes too.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         setPersons(newData.getPersonList());
         setGames(newData.getGameList());
+        if (newData instanceof AddressBook) {
+            lastChange = ((AddressBook) newData).lastChange;
+        }
     }
 
 
@@ -73,6 +302,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
+        ensureBuilt();
         return persons.contains(person);
     }
 
@@ -81,6 +311,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Person getPerson(String person) {
         requireNonNull(person);
+        ensureBuilt();
         return persons.getPerson(person);
     }
 
@@ -90,24 +321,69 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean isPersonUnique(String nameOfPersonToGet) {
         requireNonNull(nameOfPersonToGet);
+        ensureBuilt();
         return persons.isPersonUnique(nameOfPersonToGet);
     }
+
+    /**
+     * Returns the persons whose full name equals {@code fullName}, ignoring case.
+     * At most two persons are returned, which is enough to tell a unique match from an ambiguous one.
+     */
+    public List<Person> findPersonsByFullName(String fullName) {
+        requireNonNull(fullName);
+        ensureBuilt();
+        return persons.findByFullName(fullName);
+    }
+
+    /**
+     * Returns the person in the address book with the same identity as {@code person}, or null if there is none.
+     */
+    public Person getPersonWithSameIdentity(Person person) {
+        requireNonNull(person);
+        ensureBuilt();
+        return persons.getPersonWithSameIdentity(person);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or null if there is none.
+     */
+    public Person getPersonById(PersonId id) {
+        requireNonNull(id);
+        ensureBuilt();
+        return persons.getPersonById(id);
+    }
+
     /**
      * Adds a person to the address book.
-     * The person must not already exist in the address book.
+     * The person must not already exist in the address book. If another person in the address book has the same id,
+     * the person is given a fresh id instead.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        ensureBuilt();
+        Person stored = persons.add(p);
+        sportIndex.add(stored);
+        locationIndex.add(stored);
+        version++;
+        lastChange = lastChange.personChanged(stored.getId(), stored);
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The edited person keeps the id of {@code target}, so the games {@code target} takes part in are left untouched.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        persons.setPerson(target, editedPerson);
+        ensureBuilt();
+        Person storedTarget = persons.getPersonWithSameIdentity(target);
+        Person stored = persons.setPerson(target, editedPerson);
+        sportIndex.remove(storedTarget);
+        sportIndex.add(stored);
+        locationIndex.remove(storedTarget);
+        locationIndex.add(stored);
+        version++;
+        lastChange = lastChange.personChanged(stored.getId(), stored);
     }
 
 
@@ -116,7 +392,75 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        ensureBuilt();
+        Person storedKey = persons.getPersonWithSameIdentity(key);
         persons.remove(key);
+        sportIndex.remove(storedKey);
+        locationIndex.remove(storedKey);
+        version++;
+        lastChange = lastChange.personChanged(storedKey.getId(), null);
+    }
+
+    /**
+     * Returns the persons playing a valid sport whose name contains any of {@code sportKeywords} as a word, ignoring
+     * case.
+     * The returned set compares persons by identity, matching the instances in {@link #getPersonList()}.
+     */
+    public Set<Person> getPersonsPlayingAnySport(Collection<String> sportKeywords) {
+        requireNonNull(sportKeywords);
+        ensureBuilt();
+        return sportIndex.findPersonsPlayingAny(sportKeywords);
+    }
+
+    /**
+     * Returns the persons living at most {@code radiusKm} kilometres from {@code location}.
+     * The returned set compares persons by identity, matching the instances in {@link #getPersonList()}.
+     */
+    public Set<Person> getPersonsWithinRadius(Location location, double radiusKm) {
+        requireNonNull(location);
+        ensureBuilt();
+        return locationIndex.findWithinRadius(location, radiusKm);
+    }
+
+    /**
+     * Returns the persons playing a valid sport whose name contains any of {@code sportKeywords} as a word, ignoring
+     * case, and living at most {@code radiusKm} kilometres from {@code location}.
+     * The returned set compares persons by identity, matching the instances in {@link #getPersonList()}.
+     */
+    public Set<Person> getPersonsPlayingAnySportWithinRadius(Collection<String> sportKeywords, Location location,
+            double radiusKm) {
+        requireNonNull(sportKeywords);
+        requireNonNull(location);
+        ensureBuilt();
+        Set<Person> players = sportIndex.findPersonsPlayingAny(sportKeywords);
+        Set<Person> nearby = locationIndex.findWithinRadius(location, radiusKm);
+        // Both sets compare by identity, so the smaller is kept and looked up in the other
+        Set<Person> smaller = players.size() <= nearby.size() ? players : nearby;
+        Set<Person> larger = smaller == players ? nearby : players;
+        smaller.retainAll(larger);
+        return smaller;
+    }
+
+    /**
+     * Returns at most {@code limit} persons satisfying {@code predicate}, nearest to {@code location} first.
+     */
+    public List<Person> getNearestPersons(Location location, int limit, Predicate<Person> predicate) {
+        requireNonNull(location);
+        requireNonNull(predicate);
+        ensureBuilt();
+        return locationIndex.findNearest(location, limit, predicate);
+    }
+
+    /**
+     * Returns at most {@code limit} persons satisfying {@code predicate} and living at most {@code radiusKm}
+     * kilometres from {@code location}, nearest to {@code location} first.
+     */
+    public List<Person> getNearestPersonsWithinRadius(Location location, double radiusKm, int limit,
+            Predicate<Person> predicate) {
+        requireNonNull(location);
+        requireNonNull(predicate);
+        ensureBuilt();
+        return locationIndex.findNearest(location, limit, radiusKm, predicate);
     }
 
 
@@ -126,6 +470,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     @Override
     public ObservableList<Game> getGameList() {
+        ensureBuilt();
         return games.asUnmodifiableObservableList();
     }
 
@@ -134,22 +479,42 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws IllegalValueException if any participant does not exist.
      */
     public void validateGameParticipants(Game game) throws IllegalValueException {
-        for (Person participant : game.getParticipants()) {
-            if (!hasPerson(participant)) {
+        for (PersonId participantId : game.getParticipantIds()) {
+            if (getPersonById(participantId) == null) {
                 throw new IllegalValueException(
                     "Game contains participant that does not exist in address book: "
-                    + participant.getName().fullName);
+                    + participantId);
             }
         }
     }
 
+    /**
+     * Returns the participants of {@code game}, in the order they joined it.
+     * Participants that do not exist in the address book are left out.
+     */
+    public List<Person> getParticipants(Game game) {
+        requireNonNull(game);
+        List<Person> participants = new ArrayList<>();
+        for (PersonId participantId : game.getParticipantIds()) {
+            Person participant = getPersonById(participantId);
+            if (participant != null) {
+                participants.add(participant);
+            }
+        }
+        return participants;
+    }
+
     /**
      * Adds a game to the address book.
      * The game must not already exist in the address book.
      */
     public void addGame(Game game) {
         requireNonNull(game);
+        ensureBuilt();
         games.add(game);
+        participationIndex.add(game);
+        version++;
+        lastChange = lastChange.gameChanged(game.getDateTime(), game);
     }
 
     /**
@@ -161,7 +526,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(game);
         try {
             validateGameParticipants(game);
-            games.add(game);
+            addGame(game);
         } catch (IllegalValueException e) {
             throw new IllegalArgumentException(e.getMessage());
         }
@@ -175,6 +540,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasGame(Game game) {
         requireNonNull(game);
+        ensureBuilt();
         return games.contains(game);
     }
 
@@ -185,7 +551,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGame(Game target, Game editedGame) {
         requireNonNull(editedGame);
+        ensureBuilt();
+        Game storedTarget = games.getGameWithSameIdentity(target);
         games.setGame(target, editedGame);
+        participationIndex.remove(storedTarget);
+        participationIndex.add(editedGame);
+        version++;
+        if (editedGame.isSameGame(storedTarget)) {
+            lastChange = lastChange.gameChanged(editedGame.getDateTime(), editedGame);
+        } else {
+            lastChange = lastChange.gameChanged(storedTarget.getDateTime(), null);
+            lastChange = lastChange.gameChanged(editedGame.getDateTime(), editedGame);
+        }
     }
 
     /**
@@ -193,13 +570,57 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeGame(Game key) {
+        ensureBuilt();
+        Game storedKey = games.getGameWithSameIdentity(key);
         games.remove(key);
+        participationIndex.remove(storedKey);
+        version++;
+        lastChange = lastChange.gameChanged(storedKey.getDateTime(), null);
+    }
+
+    /**
+     * Returns the games scheduled from {@code start} to {@code end}, both inclusive, in date/time order.
+     */
+    public List<Game> getGamesBetween(LocalDateTime start, LocalDateTime end) {
+        ensureBuilt();
+        return games.getGamesBetween(start, end);
+    }
+
+    /**
+     * Returns at most {@code limit} games scheduled at or after {@code from}, in date/time order.
+     */
+    public List<Game> getUpcomingGames(LocalDateTime from, int limit) {
+        ensureBuilt();
+        return games.getUpcomingGames(from, limit);
+    }
+
+    /**
+     * Returns the earliest game of {@code sport} scheduled at or after {@code from}, if any.
+     */
+    public Optional<Game> getNextGame(Sport sport, LocalDateTime from) {
+        ensureBuilt();
+        return games.getNextGame(sport, from);
+    }
+
+    /**
+     * Returns the games in which a person with the same identity as {@code person} takes part.
+     * The returned games are the instances in {@link #getGameList()}, in no particular order.
+     */
+    public List<Game> getGamesWithParticipant(Person person) {
+        requireNonNull(person);
+        ensureBuilt();
+        Person storedPerson = persons.getPersonWithSameIdentity(person);
+        if (storedPerson == null) {
+            return new ArrayList<>();
+        }
+        return participationIndex.findGamesWithParticipant(storedPerson.getId());
     }
 
 
 
     @Override
     public String toString() {
+        ensureBuilt();
         return new ToStringBuilder(this)
                 .add("persons", persons)
                 .add("games", games)
@@ -208,6 +629,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     @Override
     public ObservableList<Person> getPersonList() {
+        ensureBuilt();
         return persons.asUnmodifiableObservableList();
     }
 
@@ -220,12 +642,28 @@ public class AddressBook implements ReadOnlyAddressBook {
             return false;
         }
         AddressBook otherAddressBook = (AddressBook) other;
+        ensureBuilt();
+        otherAddressBook.ensureBuilt();
         return persons.equals(otherAddressBook.persons)
                 && games.equals(otherAddressBook.games);
     }
 
     @Override
     public int hashCode() {
+        ensureBuilt();
         return persons.hashCode() + games.hashCode();
     }
+
+    /**
+     * The built copy a derived copy is built from, and the number of entries the derived copy holds.
+     */
+    private static class PendingCopy {
+        private final AddressBook base;
+        private final int entryCount;
+
+        PendingCopy(AddressBook base, int entryCount) {
+            this.base = base;
+            this.entryCount = entryCount;
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * A change made to an {@code AddressBook}, linked to the change made before it.
+ * <p>
+ * The changes of an address book form a chain, which its copies share and extend on their own, so the persons and
+ * games changed between two states of an address book can be found by following the chain back from the later state
+ * to the earlier one, without comparing the data. Each change holds the person or game as it was left by the change,
+ * so the later state can also be rebuilt from the earlier one. A chain is cut by every bulk replacement of the data,
+ * and after {@value #MAX_CHAIN_LENGTH} changes so that old changes are not kept forever; the changes before a cut are
+ * unknown.
+ */
+public final class AddressBookChange {
+
+    static final int MAX_CHAIN_LENGTH = 10_000;
+
+    private final AddressBookChange previous;
+    private final int chainLength;
+    private final PersonId personId;
+    private final Person person;
+    private final LocalDateTime gameDateTime;
+    private final Game game;
+
+    private AddressBookChange(AddressBookChange previous, PersonId personId, Person person,
+                              LocalDateTime gameDateTime, Game game) {
+        this.previous = previous;
+        this.chainLength = previous == null ? 0 : previous.chainLength + 1;
+        this.personId = personId;
+        this.person = person;
+        this.gameDateTime = gameDateTime;
+        this.game = game;
+    }
+
+    /**
+     * Returns the start of a new chain, before which no changes are known.
+     */
+    static AddressBookChange start() {
+        return new AddressBookChange(null, null, null, null, null);
+    }
+
+    /**
+     * Returns the change that follows this one by changing, adding or removing the person with the given {@code id}.
+     * {@code person} is the person left with that id, or null if the person was removed.
+     */
+    AddressBookChange personChanged(PersonId id, Person person) {
+        return new AddressBookChange(nextPrevious(), id, person, null, null);
+    }
+
+    /**
+     * Returns the change that follows this one by changing, adding or removing the game at {@code dateTime}.
+     * {@code game} is the game left at that date/time, or null if the game was removed.
+     */
+    AddressBookChange gameChanged(LocalDateTime dateTime, Game game) {
+        return new AddressBookChange(nextPrevious(), null, null, dateTime, game);
+    }
+
+    private AddressBookChange nextPrevious() {
+        return chainLength < MAX_CHAIN_LENGTH ? this : null;
+    }
+
+    /** Returns the id of the person changed, or null if this change is not to a person. */
+    PersonId getPersonId() {
+        return personId;
+    }
+
+    /** Returns the person left by this change, or null if the person was removed or this change is not to a person. */
+    Person getPerson() {
+        return person;
+    }
+
+    /** Returns the date/time of the game changed, or null if this change is not to a game. */
+    LocalDateTime getGameDateTime() {
+        return gameDateTime;
+    }
+
+    /** Returns the game left by this change, or null if the game was removed or this change is not to a game. */
+    Game getGame() {
+        return game;
+    }
+
+    /**
+     * Returns true if {@code earlier} is on the chain leading to this change.
+     */
+    boolean follows(AddressBookChange earlier) {
+        for (AddressBookChange change = this; change != null; change = change.previous) {
+            if (change == earlier) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier} up to and including this change, oldest first, or an empty
+     * {@code Optional} if {@code earlier} is not on the chain leading to this change.
+     */
+    Optional<List<AddressBookChange>> listSince(AddressBookChange earlier) {
+        List<AddressBookChange> changes = new ArrayList<>();
+        for (AddressBookChange change = this; change != earlier; change = change.previous) {
+            if (change == null) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+
+    /**
+     * Returns the persons and games changed after {@code earlier} up to and including this change, or an empty
+     * {@code Optional} if {@code earlier} is not on the chain leading to this change.
+     */
+    Optional<ChangedEntries> getChangesSince(AddressBookChange earlier) {
+        return listSince(earlier).map(changes -> {
+            ChangedEntries changedEntries = new ChangedEntries();
+            for (AddressBookChange change : changes) {
+                if (change.personId != null) {
+                    changedEntries.addPerson(change.personId, change.person);
+                }
+                if (change.gameDateTime != null) {
+                    changedEntries.addGame(change.gameDateTime, change.game);
+                }
+            }
+            return changedEntries;
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * The persons and games changed, added or removed between two states of an {@code AddressBook}, each as it was left
+ * in the later state.
+ */
+public class ChangedEntries {
+
+    /** The persons left by the changes by id, in the order they were first changed, with null for those removed. */
+    private final Map<PersonId, Person> persons = new LinkedHashMap<>();
+    private final Map<LocalDateTime, Game> games = new LinkedHashMap<>();
+
+    void addPerson(PersonId id, Person person) {
+        persons.put(id, person);
+    }
+
+    void addGame(LocalDateTime dateTime, Game game) {
+        games.put(dateTime, game);
+    }
+
+    /**
+     * Returns the ids of the persons changed, added or removed, in the order they were first changed.
+     */
+    public Set<PersonId> getPersonIds() {
+        return Collections.unmodifiableSet(persons.keySet());
+    }
+
+    /**
+     * Returns the date/times of the games changed, added or removed, in the order they were first changed.
+     */
+    public Set<LocalDateTime> getGameDateTimes() {
+        return Collections.unmodifiableSet(games.keySet());
+    }
+
+    /**
+     * Returns the persons changed or added, as they were left, in the order they were first changed.
+     */
+    public List<Person> getChangedPersons() {
+        List<Person> changedPersons = new ArrayList<>(persons.values());
+        changedPersons.removeIf(Objects::isNull);
+        return changedPersons;
+    }
+
+    /**
+     * Returns the ids of the persons removed, in the order they were first changed.
+     */
+    public List<PersonId> getRemovedPersonIds() {
+        List<PersonId> removedIds = new ArrayList<>();
+        persons.forEach((id, person) -> {
+            if (person == null) {
+                removedIds.add(id);
+            }
+        });
+        return removedIds;
+    }
+
+    /**
+     * Returns the games changed or added, as they were left, in the order they were first changed.
+     */
+    public List<Game> getChangedGames() {
+        List<Game> changedGames = new ArrayList<>(games.values());
+        changedGames.removeIf(Objects::isNull);
+        return changedGames;
+    }
+
+    /**
+     * Returns the date/times of the games removed, in the order they were first changed.
+     */
+    public List<LocalDateTime> getRemovedGameDateTimes() {
+        List<LocalDateTime> removedDateTimes = new ArrayList<>();
+        games.forEach((dateTime, game) -> {
+            if (game == null) {
+                removedDateTimes.add(dateTime);
+            }
+        });
+        return removedDateTimes;
+    }
+
+    public boolean isEmpty() {
+        return persons.isEmpty() && games.isEmpty();
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Location;
+import seedu.address.model.person.Person;
+
+/**
+ * A uniform latitude/longitude grid over the locations of persons, used to answer nearest-k and within-radius
+ * queries without measuring the distance to every person.
+ * <p>
+ * Each cell spans {@value #CELL_DEGREES} degrees in both directions, which is roughly a kilometre in Singapore.
+ * Nearest-k queries visit cells in expanding square rings around the query and stop once no unvisited cell can hold
+ * a person closer than the k-th best found so far. Cells hold the exact {@code Person} instances stored in the owning
+ * {@code AddressBook}, which keeps them in sync on every mutation.
+ */
+class LocationIndex {
+
+    static final double CELL_DEGREES = 0.01;
+
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    private final Map<Long, Set<Person>> cells = new HashMap<>();
+    private int size;
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minColumn = Integer.MAX_VALUE;
+    private int maxColumn = Integer.MIN_VALUE;
+
+    /**
+     * Adds {@code person} to the cell containing their location.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        Location location = person.getLocation();
+        int row = rowOf(location.getLatitude());
+        int column = columnOf(location.getLongitude());
+        if (cells.computeIfAbsent(keyOf(row, column), unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(person)) {
+            size++;
+        }
+        minRow = Math.min(minRow, row);
+        maxRow = Math.max(maxRow, row);
+        minColumn = Math.min(minColumn, column);
+        maxColumn = Math.max(maxColumn, column);
+    }
+
+    /**
+     * Adds every person in {@code persons} to the index.
+     */
+    void addAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code person} from the cell containing their location.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Location location = person.getLocation();
+        long key = keyOf(rowOf(location.getLatitude()), columnOf(location.getLongitude()));
+        Set<Person> cell = cells.get(key);
+        if (cell == null || !cell.remove(person)) {
+            return;
+        }
+        size--;
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        cells.clear();
+        size = 0;
+        minRow = Integer.MAX_VALUE;
+        maxRow = Integer.MIN_VALUE;
+        minColumn = Integer.MAX_VALUE;
+        maxColumn = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the persons whose location is at most {@code radiusKm} kilometres from {@code origin}.
+     * The returned set compares persons by identity and is not backed by the index.
+     */
+    Set<Person> findWithinRadius(Location origin, double radiusKm) {
+        requireNonNull(origin);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (size == 0 || radiusKm < 0) {
+            return matches;
+        }
+
+        double latitudeSpan = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double highestLatitude = Math.min(90, Math.abs(origin.getLatitude()) + latitudeSpan);
+        double cosine = Math.cos(Math.toRadians(highestLatitude));
+        double longitudeSpan = cosine <= 0 ? 180 : Math.min(180, latitudeSpan / cosine);
+
+        int fromRow = Math.max(minRow, rowOf(origin.getLatitude() - latitudeSpan));
+        int toRow = Math.min(maxRow, rowOf(origin.getLatitude() + latitudeSpan));
+        int fromColumn = Math.max(minColumn, columnOf(origin.getLongitude() - longitudeSpan));
+        int toColumn = Math.min(maxColumn, columnOf(origin.getLongitude() + longitudeSpan));
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                for (Person person : cells.getOrDefault(keyOf(row, column), Collections.emptySet())) {
+                    if (person.getLocation().distanceTo(origin) <= radiusKm) {
+                        matches.add(person);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns at most {@code limit} persons satisfying {@code predicate}, ordered by increasing distance from
+     * {@code origin}.
+     */
+    List<Person> findNearest(Location origin, int limit, Predicate<Person> predicate) {
+        return findNearest(origin, limit, Double.POSITIVE_INFINITY, predicate);
+    }
+
+    /**
+     * Returns at most {@code limit} persons satisfying {@code predicate} whose location is at most {@code radiusKm}
+     * kilometres from {@code origin}, ordered by increasing distance from it.
+     * Only the cells that may hold such persons are visited.
+     */
+    List<Person> findNearest(Location origin, int limit, double radiusKm, Predicate<Person> predicate) {
+        requireNonNull(origin);
+        requireNonNull(predicate);
+        if (size == 0 || limit <= 0 || radiusKm < 0) {
+            return new ArrayList<>();
+        }
+
+        // Max-heap of the best candidates so far, so that the worst of them can be evicted.
+        PriorityQueue<Candidate> best = new PriorityQueue<>(
+                Comparator.comparingDouble((Candidate candidate) -> candidate.distance).reversed());
+        int originRow = rowOf(origin.getLatitude());
+        int originColumn = columnOf(origin.getLongitude());
+        int lastRing = Math.max(
+                Math.max(Math.abs(originRow - minRow), Math.abs(originRow - maxRow)),
+                Math.max(Math.abs(originColumn - minColumn), Math.abs(originColumn - maxColumn)));
+        double cosine = Math.cos(Math.toRadians(Math.max(Math.abs(origin.getLatitude()),
+                Math.max(Math.abs(latitudeOf(minRow)), Math.abs(latitudeOf(maxRow + 1))))));
+
+        for (int ring = 0; ring <= lastRing; ring++) {
+            double minDistance = minDistanceBeyondRing(ring - 1, cosine);
+            if (minDistance > radiusKm || best.size() == limit && best.peek().distance <= minDistance) {
+                break;
+            }
+            visitRing(originRow, originColumn, ring, person -> {
+                if (!predicate.test(person)) {
+                    return;
+                }
+                double distance = person.getLocation().distanceTo(origin);
+                if (distance > radiusKm) {
+                    return;
+                }
+                if (best.size() < limit) {
+                    best.add(new Candidate(person, distance));
+                } else if (distance < best.peek().distance) {
+                    best.poll();
+                    best.add(new Candidate(person, distance));
+                }
+            });
+        }
+
+        List<Candidate> ordered = new ArrayList<>(best);
+        ordered.sort(Comparator.comparingDouble(candidate -> candidate.distance));
+        List<Person> nearest = new ArrayList<>(ordered.size());
+        ordered.forEach(candidate -> nearest.add(candidate.person));
+        return nearest;
+    }
+
+    private void visitRing(int originRow, int originColumn, int ring, Consumer<Person> visitor) {
+        for (int row = originRow - ring; row <= originRow + ring; row++) {
+            boolean isEdgeRow = row == originRow - ring || row == originRow + ring;
+            int step = isEdgeRow ? 1 : Math.max(1, 2 * ring);
+            for (int column = originColumn - ring; column <= originColumn + ring; column += step) {
+                Set<Person> cell = cells.get(keyOf(row, column));
+                if (cell != null) {
+                    cell.forEach(visitor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a lower bound on the distance from a point inside the origin cell to any point outside the square of
+     * cells within {@code ring} rings of it, where {@code cosine} bounds the cosine of every latitude involved.
+     * Such a point differs from the origin by more than {@code ring} cells in latitude or in longitude.
+     */
+    private static double minDistanceBeyondRing(int ring, double cosine) {
+        if (ring <= 0) {
+            return 0;
+        }
+        double halfSpan = Math.toRadians(ring * CELL_DEGREES) / 2;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.max(0, cosine) * Math.sin(halfSpan)));
+    }
+
+    private static int rowOf(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int columnOf(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static double latitudeOf(int row) {
+        return row * CELL_DEGREES;
+    }
+
+    private static long keyOf(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A person found by a nearest-k query, together with their distance from the query origin.
+     */
+    private static class Candidate {
+        private final Person person;
+        private final double distance;
+
+        Candidate(Person person, double distance) {
+            this.person = person;
+            this.distance = distance;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,6 +12,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Sport;
 
 /**
  * The API of the Model component.
@@ -51,9 +56,31 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
-    /** Returns the AddressBook */
+    /**
+     * Returns the AddressBook, which changes with the model and must only be used on the thread that changes it.
+     */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a copy of the address book as of its last completed change, which later changes do not affect.
+     * Unlike {@link #getAddressBook()}, it can be called and used from any thread.
+     */
+    AddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the version of the address book data as of its last completed change, which advances with every change
+     * to the address book. It can be called from any thread without waiting for a change in progress.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Applies {@code mutations} to this model as one batch. The person and game lists are each updated with a single
+     * change once all of the mutations have been applied, and none of them are kept if {@code mutations} throws.
+     * Until then, the observable lists keep showing the data as it was before the batch. A batch started inside
+     * another batch joins the outer one.
+     */
+    void batch(Consumer<Model> mutations);
+
 
 
     /**
@@ -90,6 +117,38 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show only persons playing a valid sport whose name contains
+     * any of {@code sportKeywords} as a word, ignoring case. Matches are resolved through the address book's sport
+     * index instead of testing every person, and stay listed when they are edited.
+     * @throws NullPointerException if {@code sportKeywords} is null.
+     */
+    void updateFilteredPersonListBySports(List<String> sportKeywords);
+
+    /**
+     * Updates the filter of the filtered person list to show only persons playing a sport whose name contains any of
+     * {@code sportKeywords} as a word and living at most {@code radiusKm} kilometres from {@code location}.
+     * Matches are resolved through the address book's sport and location indexes.
+     * @throws NullPointerException if {@code sportKeywords} or {@code location} is null.
+     */
+    void updateFilteredPersonListBySportsWithinRadius(List<String> sportKeywords, Location location, double radiusKm);
+
+    /**
+     * Returns at most {@code limit} persons in the address book satisfying {@code predicate}, nearest to
+     * {@code location} first. Only the persons near {@code location} are measured.
+     * @throws NullPointerException if {@code location} or {@code predicate} is null.
+     */
+    List<Person> getNearestPersons(Location location, int limit, Predicate<Person> predicate);
+
+    /**
+     * Returns at most {@code limit} persons in the address book satisfying {@code predicate} and living at most
+     * {@code radiusKm} kilometres from {@code location}, nearest to {@code location} first.
+     * Only the persons within the radius of {@code location} are measured.
+     * @throws NullPointerException if {@code location} or {@code predicate} is null.
+     */
+    List<Person> getNearestPersonsWithinRadius(Location location, double radiusKm, int limit,
+            Predicate<Person> predicate);
+
     /**
      * Sorts the filtered person list by distance from the given location.
      *
@@ -148,6 +207,29 @@ public interface Model {
      */
     ObservableList<Game> getGameList();
 
+    /**
+     * Returns the games scheduled from {@code start} to {@code end}, both inclusive, in date/time order.
+     * @throws NullPointerException if {@code start} or {@code end} is null.
+     */
+    List<Game> getGamesBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns at most {@code limit} games scheduled at or after {@code from}, in date/time order.
+     * @throws NullPointerException if {@code from} is null.
+     */
+    List<Game> getUpcomingGames(LocalDateTime from, int limit);
+
+    /**
+     * Returns the earliest game of {@code sport} scheduled at or after {@code from}, if any.
+     * @throws NullPointerException if {@code sport} or {@code from} is null.
+     */
+    Optional<Game> getNextGame(Sport sport, LocalDateTime from);
+
+    /**
+     * Returns the participants of {@code game}, resolved from the ids it holds.
+     */
+    List<Person> getParticipants(Game game);
+
     /**
      * Checks if a given name is unique in the address book
      */
@@ -4,10 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -17,11 +22,21 @@ import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.game.Game;
+import seedu.address.model.person.Coordinates;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Sport;
 
 /**
  * Represents the in-memory model of the address book data.
+ * <p>
+ * The model is changed on one thread at a time, normally the JavaFX application thread, which also owns the filtered
+ * lists and the live address book. Each change holds the write lock, and queries hold the read lock, so that other
+ * threads can query the model while it is being changed. Readers on other threads should prefer
+ * {@link #getAddressBookSnapshot()}, which only takes the read lock to copy a version of the address book once, and
+ * otherwise returns the latest copy without waiting for a change in progress. The version of the address book is
+ * published after every completed change, and is read without the lock.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -40,6 +55,14 @@ public class ModelManager implements Model {
     private final FilteredList<Game> filteredGames;
     private final SortedList<Game> sortedGames;
 
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** The latest copy of the address book handed out, which is never changed. */
+    private volatile AddressBook snapshot;
+    /** The version of the address book as of its last completed change, which is read without the lock. */
+    private volatile long completedVersion;
+
+    private boolean isInBatch;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -50,6 +73,7 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        completedVersion = this.addressBook.getVersion();
 
 
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
@@ -103,7 +127,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        write(() -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -111,72 +135,139 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBook getAddressBookSnapshot() {
+        AddressBook latestSnapshot = snapshot;
+        if (latestSnapshot == null) {
+            lock.readLock().lock();
+        } else if (!lock.readLock().tryLock()) {
+            // A change is in progress, so the latest copy is still the last completed version
+            return latestSnapshot;
+        }
+        try {
+            if (latestSnapshot != null && latestSnapshot.getVersion() == addressBook.getVersion()) {
+                return latestSnapshot;
+            }
+            latestSnapshot = AddressBook.copyOf(addressBook, latestSnapshot);
+            snapshot = latestSnapshot;
+            return latestSnapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
+    @Override
+    public long getAddressBookVersion() {
+        return completedVersion;
+    }
 
     @Override
-    public boolean hasPerson(Person person) {
-        requireNonNull(person);
-        for (Person p : addressBook.getPersonList()) {
-            if (p.isSamePerson(person)) {
-                return true;
+    public void batch(Consumer<Model> mutations) {
+        requireNonNull(mutations);
+        lock.writeLock().lock();
+        try {
+            if (isInBatch) {
+                mutations.accept(this);
+                return;
+            }
+
+            isInBatch = true;
+            addressBook.beginBatch();
+            boolean isApplied = false;
+            try {
+                mutations.accept(this);
+                isApplied = true;
+            } finally {
+                isInBatch = false;
+                if (isApplied) {
+                    addressBook.commitBatch();
+                } else {
+                    addressBook.rollbackBatch();
+                }
+                completedVersion = addressBook.getVersion();
             }
+        } finally {
+            lock.writeLock().unlock();
         }
-        return false;
     }
 
-    @Override
-    public void deletePerson(Person target) {
-        requireNonNull(target);
+    /**
+     * Applies {@code mutation} to the address book while holding the write lock.
+     */
+    private void write(Runnable mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.run();
+        } finally {
+            if (!isInBatch) {
+                completedVersion = addressBook.getVersion();
+            }
+            lock.writeLock().unlock();
+        }
+    }
 
-        List<Game> allGames = new ArrayList<>(addressBook.getGameList());
+    /**
+     * Returns the result of {@code query} on the address book, computed while holding the read lock.
+     */
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-        for (Game game : allGames) {
-            if (game.getParticipants().contains(target)) {
 
-                Game updatedGame = new Game(
-                    game.getSport(),
-                    game.getDateTime(),
-                    game.getLocation(),
-                    game.getParticipants().stream()
-                        .filter(p -> !p.equals(target))
-                        .collect(Collectors.toList())
-                );
 
-                addressBook.removeGame(game);
-                addressBook.addGame(updatedGame);
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return read(() -> addressBook.hasPerson(person));
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        requireNonNull(target);
+        write(() -> {
+            List<Game> gamesToUpdate = addressBook.getGamesWithParticipant(target);
+            if (gamesToUpdate.isEmpty()) {
+                addressBook.removePerson(target);
+                return;
             }
-        }
-        addressBook.removePerson(target);
+
+            // Remove the person from all games they participate in as a single change
+            PersonId targetId = addressBook.getPersonWithSameIdentity(target).getId();
+            batch(tx -> {
+                for (Game game : gamesToUpdate) {
+                    addressBook.setGame(game, game.withParticipantIds(game.getParticipantIds().stream()
+                            .filter(id -> !id.equals(targetId))
+                            .collect(Collectors.toList())));
+                }
+                addressBook.removePerson(target);
+            });
+        });
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        write(() -> {
+            addressBook.addPerson(person);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        });
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        addressBook.setPerson(target, editedPerson);
-
-        // Update person in all games they participate in
-        List<Game> allGames = new ArrayList<>(addressBook.getGameList());
-        for (Game game : allGames) {
-            if (game.getParticipants().contains(target)) {
-                Game updatedGame = new Game(
-                    game.getSport(),
-                    game.getDateTime(),
-                    game.getLocation(),
-                    game.getParticipants().stream()
-                        .map(p -> p.equals(target) ? editedPerson : p)
-                        .collect(Collectors.toList())
-                );
-                addressBook.removeGame(game);
-                addressBook.addGame(updatedGame);
-            }
-        }
+        // Games refer to the person by id, which the edited person keeps, so they need no update
+        write(() -> addressBook.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public List<Person> getParticipants(Game game) {
+        requireNonNull(game);
+        return read(() -> addressBook.getParticipants(game));
     }
 
 
@@ -184,24 +275,26 @@ public class ModelManager implements Model {
     @Override
     public boolean hasGame(Game game) {
         requireNonNull(game);
-        return addressBook.hasGame(game);
+        return read(() -> addressBook.hasGame(game));
     }
 
     @Override
     public void deleteGame(Game target) {
-        addressBook.removeGame(target);
+        write(() -> addressBook.removeGame(target));
     }
 
     @Override
     public void addGame(Game game) {
-        addressBook.addGameWithValidation(game);
-        updateFilteredGameList(PREDICATE_SHOW_ALL_GAMES);
+        write(() -> {
+            addressBook.addGameWithValidation(game);
+            updateFilteredGameList(PREDICATE_SHOW_ALL_GAMES);
+        });
     }
 
     @Override
     public void setGame(Game target, Game editedGame) {
         requireAllNonNull(target, editedGame);
-        addressBook.setGame(target, editedGame);
+        write(() -> addressBook.setGame(target, editedGame));
     }
 
     @Override
@@ -209,6 +302,24 @@ public class ModelManager implements Model {
         return addressBook.getGameList();
     }
 
+    @Override
+    public List<Game> getGamesBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return read(() -> addressBook.getGamesBetween(start, end));
+    }
+
+    @Override
+    public List<Game> getUpcomingGames(LocalDateTime from, int limit) {
+        requireNonNull(from);
+        return read(() -> addressBook.getUpcomingGames(from, limit));
+    }
+
+    @Override
+    public Optional<Game> getNextGame(Sport sport, LocalDateTime from) {
+        requireAllNonNull(sport, from);
+        return read(() -> addressBook.getNextGame(sport, from));
+    }
+
 
 
     @Override
@@ -222,11 +333,56 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListBySports(List<String> sportKeywords) {
+        requireNonNull(sportKeywords);
+        Set<PersonId> playerIds = getIdsOfPersonsPlayingAnySport(sportKeywords);
+        filteredPersons.setPredicate(person -> playerIds.contains(person.getId()));
+    }
+
+    @Override
+    public void updateFilteredPersonListBySportsWithinRadius(List<String> sportKeywords, Location location,
+                                                            double radiusKm) {
+        requireAllNonNull(sportKeywords, location);
+        // Kept by id, so that the persons found stay listed when they are edited
+        Set<PersonId> nearbyPlayerIds = read(() -> addressBook
+                .getPersonsPlayingAnySportWithinRadius(sportKeywords, location, radiusKm).stream()
+                .map(Person::getId)
+                .collect(Collectors.toSet()));
+        filteredPersons.setPredicate(person -> nearbyPlayerIds.contains(person.getId()));
+    }
+
+    /**
+     * Returns the ids of the persons playing any of the sports matching {@code sportKeywords}, found through the sport
+     * index of the address book. The persons are kept by id, so that they stay listed when they are edited.
+     */
+    private Set<PersonId> getIdsOfPersonsPlayingAnySport(List<String> sportKeywords) {
+        return read(() -> addressBook.getPersonsPlayingAnySport(sportKeywords).stream()
+                .map(Person::getId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public List<Person> getNearestPersons(Location location, int limit, Predicate<Person> predicate) {
+        requireAllNonNull(location, predicate);
+        return read(() -> addressBook.getNearestPersons(location, limit, predicate));
+    }
+
+    @Override
+    public List<Person> getNearestPersonsWithinRadius(Location location, double radiusKm, int limit,
+            Predicate<Person> predicate) {
+        requireAllNonNull(location, predicate);
+        return read(() -> addressBook.getNearestPersonsWithinRadius(location, radiusKm, limit, predicate));
+    }
+
     @Override
     public void sortFilteredPersonListByDistance(Location location) {
         requireNonNull(location);
-        Comparator<Person> comparator =
-                Comparator.comparingDouble(person -> person.getLocation().distanceTo(location));
+        // The key is read straight off each person's shared coordinates, so persons added later are ordered by the
+        // same key, and nothing is cached per person.
+        Coordinates origin = location.getCoordinates();
+        Comparator<Person> comparator = Comparator.comparingDouble(person ->
+                origin.squaredChordTo(person.getLocation().getCoordinates()));
         sortedPersons.setComparator(comparator);
     }
 
@@ -274,9 +430,7 @@ public class ModelManager implements Model {
     @Override
     public int isPersonUnique(String name) {
         requireNonNull(name);
-        long count = addressBook.getPersonList().stream()
-                .filter(p -> p.getName().fullName.equalsIgnoreCase(name))
-                .count();
+        int count = read(() -> addressBook.findPersonsByFullName(name)).size();
 
         if (count == 1) {
             return 1;
@@ -291,9 +445,7 @@ public class ModelManager implements Model {
     public Person getPerson(String name) {
         requireNonNull(name);
 
-        List<Person> matchedPersons = addressBook.getPersonList().stream()
-                .filter(p -> p.getName().fullName.equalsIgnoreCase(name))
-                .collect(Collectors.toList());
+        List<Person> matchedPersons = read(() -> addressBook.findPersonsByFullName(name));
 
         if (matchedPersons.size() > 1) {
             throw new IllegalArgumentException(
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.game.Game;
+import seedu.address.model.person.PersonId;
+
+/**
+ * A reverse index from persons to the games they take part in.
+ * <p>
+ * Participants are keyed by their {@code PersonId}, mirroring the participant ids of games, so that the games of a
+ * person can be found without testing the participants of every game. Postings hold the exact
+ * {@code Game} instances stored in the owning {@code AddressBook}, which keeps them in sync on every mutation.
+ */
+class ParticipationIndex {
+
+    private final Map<PersonId, Set<Game>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code game} to the postings of each of its participants.
+     */
+    void add(Game game) {
+        requireNonNull(game);
+        for (PersonId participantId : game.getParticipantIds()) {
+            postings.computeIfAbsent(participantId,
+                    unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(game);
+        }
+    }
+
+    /**
+     * Adds every game in {@code games} to the index.
+     */
+    void addAll(Collection<Game> games) {
+        requireNonNull(games);
+        games.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code game} from the postings of each of its participants.
+     */
+    void remove(Game game) {
+        requireNonNull(game);
+        for (PersonId participantId : game.getParticipantIds()) {
+            Set<Game> posting = postings.get(participantId);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(game);
+            if (posting.isEmpty()) {
+                postings.remove(participantId);
+            }
+        }
+    }
+
+    /**
+     * Removes every game from the index.
+     */
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the games in which the person with the given {@code id} takes part.
+     * The returned list is not backed by the index.
+     */
+    List<Game> findGamesWithParticipant(PersonId id) {
+        requireNonNull(id);
+        return new ArrayList<>(postings.getOrDefault(id, Collections.emptySet()));
+    }
+}
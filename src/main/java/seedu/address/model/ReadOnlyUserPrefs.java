@@ -15,4 +15,24 @@ public interface ReadOnlyUserPrefs {
 
     Path getGlobalSportsListFilePath();
 
+    /**
+     * Returns true if changes to the address book are appended to a journal instead of rewriting the data file.
+     */
+    boolean isAddressBookJournalEnabled();
+
+    /**
+     * Returns the format in which the address book is saved, either {@code "json"} or {@code "binary"}.
+     */
+    String getAddressBookFormat();
+
+    /**
+     * Returns true if the address book is saved in the binary format.
+     */
+    boolean isBinaryAddressBookFormat();
+
+    /**
+     * Returns the number of backups of the address book data file kept, rotated on every save of the whole file.
+     */
+    int getAddressBookBackupGenerations();
+
 }
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Sport;
+import seedu.address.model.person.SportRegistry;
+
+/**
+ * An inverted index from sports to the persons playing them.
+ * <p>
+ * Postings are keyed by the {@code SportRegistry} id of each sport, and keywords are resolved to the ids of the valid
+ * sports containing them as a word through {@code SportRegistry#idsContainingAnyWord(Collection)}, so that a keyword
+ * matches a person exactly when {@code SportContainsKeywordsPredicate} would. Postings hold the exact {@code Person}
+ * instances stored in the owning {@code AddressBook}, which keeps them in sync on every mutation.
+ */
+class SportIndex {
+
+    private final Map<Integer, Set<Person>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the postings of every sport they play.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (Sport sport : person.getSports()) {
+            postings.computeIfAbsent(sport.getId(), unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    /**
+     * Adds every person in {@code persons} to the index.
+     */
+    void addAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code person} from the postings of every sport they play.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (Sport sport : person.getSports()) {
+            Set<Person> posting = postings.get(sport.getId());
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(sport.getId());
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the persons playing a valid sport whose name contains any of {@code keywords} as a word, ignoring case.
+     * The returned set compares persons by identity and is not backed by the index.
+     */
+    Set<Person> findPersonsPlayingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        BitSet sportIds = SportRegistry.idsContainingAnyWord(keywords);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int id = sportIds.nextSetBit(0); id >= 0; id = sportIds.nextSetBit(id + 1)) {
+            matches.addAll(postings.getOrDefault(id, Collections.emptySet()));
+        }
+        return matches;
+    }
+}
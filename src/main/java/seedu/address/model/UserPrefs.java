@@ -13,9 +13,15 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String ADDRESS_BOOK_FORMAT_JSON = "json";
+    public static final String ADDRESS_BOOK_FORMAT_BINARY = "binary";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path globalSportsListFilePath = Paths.get("data" , "globalSportList.json");
+    private boolean addressBookJournalEnabled = true;
+    private String addressBookFormat = ADDRESS_BOOK_FORMAT_JSON;
+    private int addressBookBackupGenerations = 2;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +44,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setGlobalSportsListFilePath(newUserPrefs.getGlobalSportsListFilePath());
+        setAddressBookJournalEnabled(newUserPrefs.isAddressBookJournalEnabled());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookBackupGenerations(newUserPrefs.getAddressBookBackupGenerations());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +76,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.globalSportsListFilePath = globalSportsListFilePath;
     }
 
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    public String getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(String addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isBinaryAddressBookFormat() {
+        return ADDRESS_BOOK_FORMAT_BINARY.equalsIgnoreCase(addressBookFormat);
+    }
+
+    public int getAddressBookBackupGenerations() {
+        return addressBookBackupGenerations;
+    }
+
+    public void setAddressBookBackupGenerations(int addressBookBackupGenerations) {
+        this.addressBookBackupGenerations = Math.max(0, addressBookBackupGenerations);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,12 +119,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && globalSportsListFilePath.equals(otherUserPrefs.globalSportsListFilePath);
+                && globalSportsListFilePath.equals(otherUserPrefs.globalSportsListFilePath)
+                && addressBookJournalEnabled == otherUserPrefs.addressBookJournalEnabled
+                && addressBookFormat.equals(otherUserPrefs.addressBookFormat)
+                && addressBookBackupGenerations == otherUserPrefs.addressBookBackupGenerations;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, globalSportsListFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, globalSportsListFilePath, addressBookJournalEnabled,
+                addressBookFormat, addressBookBackupGenerations);
     }
 
     @Override
@@ -95,6 +137,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nGlobal sports list file location : " + globalSportsListFilePath);
+        sb.append("\nAddress book journal enabled : " + addressBookJournalEnabled);
+        sb.append("\nAddress book format : " + addressBookFormat);
+        sb.append("\nAddress book backup generations : " + addressBookBackupGenerations);
         return sb.toString();
     }
 
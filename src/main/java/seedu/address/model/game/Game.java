@@ -1,23 +1,28 @@
 package seedu.address.model.game;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.model.person.Location;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Sport;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Represents a scheduled game event with a specific sport, date/time, location,
  * and a list of unique participants.
+ * Participants are referred to by their {@code PersonId} and resolved through the {@code AddressBook}, so editing a
+ * person does not touch the games they take part in.
+ * A game is immutable; a changed game is a new {@code Game} that replaces it in the {@code AddressBook}.
  */
 public class Game {
     private final Sport sport;
     private final LocalDateTime dateTime;
-    private Location location;
-    private final UniquePersonList participants;
+    private final Location location;
+    private final Set<PersonId> participantIds = new LinkedHashSet<>();
 
     /**
      * Constructs a {@code Game} with the given sport, date/time, and location,
@@ -30,24 +35,37 @@ public class Game {
         this.sport = sport;
         this.dateTime = dateTime;
         this.location = location;
-        this.participants = new UniquePersonList();
     }
 
     /**
      * Constructs a {@code Game} with the given sport, date/time, location, and
-     * a list of participants.
+     * the ids of its participants.
+     * {@code participantIds} must not contain duplicate ids.
      */
-    public Game(Sport sport, LocalDateTime dateTime, Location location, List<Person> participants) {
-        Objects.requireNonNull(sport);
-        Objects.requireNonNull(dateTime);
-        Objects.requireNonNull(location);
-        Objects.requireNonNull(participants);
-        this.sport = sport;
-        this.dateTime = dateTime;
-        this.location = location;
-        UniquePersonList list = new UniquePersonList();
-        list.setPersons(participants);
-        this.participants = list;
+    public Game(Sport sport, LocalDateTime dateTime, Location location, List<PersonId> participantIds) {
+        this(sport, dateTime, location);
+        Objects.requireNonNull(participantIds);
+        for (PersonId id : participantIds) {
+            Objects.requireNonNull(id);
+            if (!this.participantIds.add(id)) {
+                throw new DuplicatePersonException();
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this game with {@code participantIds} as the ids of its participants.
+     * {@code participantIds} must not contain duplicate ids.
+     */
+    public Game withParticipantIds(List<PersonId> participantIds) {
+        return new Game(sport, dateTime, location, participantIds);
+    }
+
+    /**
+     * Returns a copy of this game held at {@code location}.
+     */
+    public Game withLocation(Location location) {
+        return new Game(sport, dateTime, location, getParticipantIds());
     }
 
     public Sport getSport() {
@@ -63,18 +81,18 @@ public class Game {
     }
 
     /**
-     * Returns an unmodifiable list of participants.
+     * Returns an unmodifiable list of the ids of the participants, in the order they joined the game.
      */
-    public List<Person> getParticipants() {
-        return participants.asUnmodifiableObservableList();
+    public List<PersonId> getParticipantIds() {
+        return List.copyOf(participantIds);
     }
 
-    public void addParticipant(Person person) {
-        participants.add(person);
-    }
-
-    public void removeParticipant(Person person) {
-        participants.remove(person);
+    /**
+     * Returns true if the person with the given {@code id} takes part in this game.
+     */
+    public boolean hasParticipant(PersonId id) {
+        Objects.requireNonNull(id);
+        return participantIds.contains(id);
     }
 
     /**
@@ -90,14 +108,6 @@ public class Game {
                 && otherGame.getDateTime().equals(this.dateTime);
     }
 
-    /**
-     * Sets a new location for this game.
-     */
-    public void setLocation(Location location) {
-        Objects.requireNonNull(location, "Location cannot be null");
-        this.location = location;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -120,6 +130,6 @@ public class Game {
     @Override
     public String toString() {
         return "Game: " + sport + " at " + dateTime + " in " + location
-            + "Participants: " + participants.asUnmodifiableObservableList().size();
+            + "Participants: " + participantIds.size();
     }
 }
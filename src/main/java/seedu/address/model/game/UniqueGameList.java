@@ -3,31 +3,49 @@ package seedu.address.model.game;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.game.exceptions.DuplicateGameException;
 import seedu.address.model.game.exceptions.GameNotFoundException;
+import seedu.address.model.person.Sport;
 
 /**
  * A list of games that enforces uniqueness between its elements and does not allow nulls.
  * A game is considered unique based on its scheduled date/time only.
  * <p>
- * Supports a minimal set of list operations, and automatically sorts the games by date/time.
+ * Supports a minimal set of list operations, and keeps the games sorted by date/time.
  * This ensures that game indices are consistent and predictable in commands and UI.
+ * <p>
+ * Games are indexed by date/time, and per sport, in navigable maps, so that identity checks and time-window queries
+ * take logarithmic time. The observable list is kept in order by inserting each game at its position rather than
+ * re-sorting the whole list.
+ * <p>
+ * Mutations can be staged in a batch, during which they are applied to a working copy of the list while the
+ * observable list keeps showing the state before the batch. Committing the batch publishes all of them as a single
+ * change to the observable list.
  */
 public class UniqueGameList implements Iterable<Game> {
     private final ObservableList<Game> internalList = FXCollections.observableArrayList();
     private final ObservableList<Game> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NavigableMap<LocalDateTime, Game> gamesByDateTime = new TreeMap<>();
+    private final Map<Sport, NavigableMap<LocalDateTime, Game>> gamesBySport = new HashMap<>();
+    private List<Game> workingList;
 
     /**
      * Adds a game to the list.
      * The game must not already exist in the list.
-     * After adding, the list is sorted by date/time to ensure consistent indexing.
+     * The game is inserted at its position by date/time to ensure consistent indexing.
      *
      * @param game The game to be added.
      * @throws DuplicateGameException if the game already exists.
@@ -37,8 +55,8 @@ public class UniqueGameList implements Iterable<Game> {
         if (contains(game)) {
             throw new DuplicateGameException();
         }
-        internalList.add(game);
-        sortByDate();
+        list().add(insertionPointOf(game.getDateTime()), game);
+        index(game);
     }
 
     /**
@@ -50,10 +68,11 @@ public class UniqueGameList implements Iterable<Game> {
      */
     public void remove(Game toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new GameNotFoundException();
         }
-
+        unindex(list().remove(index));
     }
 
     /**
@@ -64,14 +83,22 @@ public class UniqueGameList implements Iterable<Game> {
      */
     public boolean contains(Game gameToCheck) {
         requireNonNull(gameToCheck);
-        return internalList.stream().anyMatch(gameToCheck::isSameGame);
+        return gamesByDateTime.containsKey(gameToCheck.getDateTime());
+    }
+
+    /**
+     * Returns the game in the list with the same identity as {@code game}, or null if there is none.
+     */
+    public Game getGameWithSameIdentity(Game game) {
+        requireNonNull(game);
+        return gamesByDateTime.get(game.getDateTime());
     }
 
     /**
      * Replaces the game {@code target} in the list with {@code editedGame}.
      * {@code target} must exist in the list.
      * The game identity of {@code editedGame} must not be the same as another existing game in the list.
-     * After replacement, the list is sorted to maintain consistent indexing.
+     * The game is replaced in place if its date/time is unchanged, and otherwise moved to its new position.
      *
      * @param target     the game to be replaced.
      * @param editedGame the new game.
@@ -81,7 +108,7 @@ public class UniqueGameList implements Iterable<Game> {
     public void setGame(Game target, Game editedGame) {
         requireAllNonNull(target, editedGame);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new GameNotFoundException();
         }
@@ -90,8 +117,13 @@ public class UniqueGameList implements Iterable<Game> {
             throw new DuplicateGameException();
         }
 
-        internalList.set(index, editedGame);
-        sortByDate();
+        if (target.getDateTime().equals(editedGame.getDateTime())) {
+            unindex(list().set(index, editedGame));
+        } else {
+            unindex(list().remove(index));
+            list().add(insertionPointOf(editedGame.getDateTime()), editedGame);
+        }
+        index(editedGame);
     }
 
     /**
@@ -104,11 +136,20 @@ public class UniqueGameList implements Iterable<Game> {
      */
     public void setGames(List<Game> games) {
         requireAllNonNull(games);
-        if (!gamesAreUnique(games)) {
-            throw new DuplicateGameException();
+        NavigableMap<LocalDateTime, Game> replacement = new TreeMap<>();
+        for (Game game : games) {
+            if (replacement.put(game.getDateTime(), game) != null) {
+                throw new DuplicateGameException();
+            }
+        }
+        gamesByDateTime.clear();
+        gamesBySport.clear();
+        replacement.values().forEach(this::index);
+        if (workingList != null) {
+            workingList = new ArrayList<>(replacement.values());
+        } else {
+            internalList.setAll(replacement.values());
         }
-        internalList.setAll(games);
-        sortByDate();
     }
 
     /**
@@ -119,7 +160,7 @@ public class UniqueGameList implements Iterable<Game> {
      */
     public void setGames(UniqueGameList replacement) {
         requireNonNull(replacement);
-        setGames(replacement.internalList);
+        setGames(replacement.list());
     }
 
     /**
@@ -133,36 +174,153 @@ public class UniqueGameList implements Iterable<Game> {
     }
 
     /**
-     * Returns true if {@code games} contains only unique games
-     * (i.e., no two games have the same scheduled date/time).
+     * Starts staging mutations in a batch. Until the batch is committed or rolled back, the observable list keeps
+     * showing the games as they were before the batch, while every other operation sees the staged changes.
+     */
+    public void beginBatch() {
+        if (workingList == null) {
+            workingList = new ArrayList<>(internalList);
+        }
+    }
+
+    /**
+     * Publishes the mutations staged since {@link #beginBatch()} as a single change to the observable list.
+     * No change is published if the batch left the list as it was.
+     */
+    public void commitBatch() {
+        if (workingList == null) {
+            return;
+        }
+        List<Game> staged = workingList;
+        workingList = null;
+        if (!isSameInstances(staged, internalList)) {
+            internalList.setAll(staged);
+        }
+    }
+
+    /**
+     * Discards the mutations staged since {@link #beginBatch()}.
+     */
+    public void rollbackBatch() {
+        if (workingList == null) {
+            return;
+        }
+        workingList = null;
+        gamesByDateTime.clear();
+        gamesBySport.clear();
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Returns the games scheduled from {@code start} to {@code end}, both inclusive, in date/time order.
      */
-    private boolean gamesAreUnique(List<Game> games) {
-        for (int i = 0; i < games.size() - 1; i++) {
-            for (int j = i + 1; j < games.size(); j++) {
-                if (games.get(i).isSameGame(games.get(j))) {
-                    return false;
-                }
+    public List<Game> getGamesBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        if (start.isAfter(end)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(gamesByDateTime.subMap(start, true, end, true).values());
+    }
+
+    /**
+     * Returns at most {@code limit} games scheduled at or after {@code from}, in date/time order.
+     */
+    public List<Game> getUpcomingGames(LocalDateTime from, int limit) {
+        requireNonNull(from);
+        List<Game> upcoming = new ArrayList<>();
+        for (Game game : gamesByDateTime.tailMap(from, true).values()) {
+            if (upcoming.size() >= limit) {
+                break;
+            }
+            upcoming.add(game);
+        }
+        return upcoming;
+    }
+
+    /**
+     * Returns the earliest game of {@code sport} scheduled at or after {@code from}, if any.
+     */
+    public Optional<Game> getNextGame(Sport sport, LocalDateTime from) {
+        requireAllNonNull(sport, from);
+        NavigableMap<LocalDateTime, Game> games = gamesBySport.get(sport);
+        if (games == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(games.ceilingEntry(from)).map(Map.Entry::getValue);
+    }
+
+    /**
+     * Returns the position of {@code game} in the internal list, or -1 if no equal game is stored.
+     */
+    private int indexOf(Game game) {
+        Game stored = gamesByDateTime.get(game.getDateTime());
+        if (stored == null || !stored.equals(game)) {
+            return -1;
+        }
+        return insertionPointOf(stored.getDateTime());
+    }
+
+    /**
+     * Returns the position at which a game scheduled at {@code dateTime} keeps the internal list sorted.
+     */
+    private int insertionPointOf(LocalDateTime dateTime) {
+        int low = 0;
+        List<Game> games = list();
+        int high = games.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (games.get(middle).getDateTime().isBefore(dateTime)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isSameInstances(List<Game> first, List<Game> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
             }
         }
         return true;
     }
 
     /**
-     * Sorts the internal list by game date/time in ascending order.
-     * This ensures consistent indexing across all commands and UI representations.
+     * Returns the list that mutations apply to: the working copy during a batch, and the observable list otherwise.
      */
-    private void sortByDate() {
-        internalList.sort(Comparator.comparing(Game::getDateTime));
+    private List<Game> list() {
+        return workingList != null ? workingList : internalList;
+    }
+
+    private void index(Game game) {
+        gamesByDateTime.put(game.getDateTime(), game);
+        gamesBySport.computeIfAbsent(game.getSport(), unused -> new TreeMap<>()).put(game.getDateTime(), game);
+    }
+
+    private void unindex(Game game) {
+        gamesByDateTime.remove(game.getDateTime());
+        NavigableMap<LocalDateTime, Game> games = gamesBySport.get(game.getSport());
+        if (games != null) {
+            games.remove(game.getDateTime());
+            if (games.isEmpty()) {
+                gamesBySport.remove(game.getSport());
+            }
+        }
     }
 
     @Override
     public Iterator<Game> iterator() {
-        return internalList.iterator();
+        return list().iterator();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return list().toString();
     }
     @Override
     public boolean equals(Object other) {
@@ -173,6 +331,6 @@ public class UniqueGameList implements Iterable<Game> {
             return false;
         }
         UniqueGameList otherList = (UniqueGameList) other;
-        return internalList.equals(otherList.internalList);
+        return list().equals(otherList.list());
     }
 }
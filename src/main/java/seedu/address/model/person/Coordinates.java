@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+/**
+ * Represents the latitude and longitude of a postal code, shared by every {@code Location} at that postal code.
+ * Guarantees: immutable.
+ * <p>
+ * The coordinates are converted to radians, and the cosine of the latitude is taken, once at construction so that
+ * repeated distance calculations only pay for the terms that depend on both endpoints. The point on the unit sphere is
+ * also computed once, so that distances can be compared with no trigonometry at all.
+ */
+public final class Coordinates {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    private final double latitude;
+    private final double longitude;
+    private final double latitudeRadians;
+    private final double longitudeRadians;
+    private final double cosLatitude;
+    private final double x;
+    private final double y;
+    private final double z;
+
+    /**
+     * Constructs {@code Coordinates} at the given latitude and longitude, in degrees.
+     */
+    public Coordinates(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.latitudeRadians = Math.toRadians(latitude);
+        this.longitudeRadians = Math.toRadians(longitude);
+        this.cosLatitude = Math.cos(latitudeRadians);
+        this.x = cosLatitude * Math.cos(longitudeRadians);
+        this.y = cosLatitude * Math.sin(longitudeRadians);
+        this.z = Math.sin(latitudeRadians);
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Returns the distance in kilometers between these coordinates and {@code other}, using the Haversine formula.
+     */
+    public double distanceTo(Coordinates other) {
+        double sinHalfDLat = Math.sin((other.latitudeRadians - latitudeRadians) / 2);
+        double sinHalfDLon = Math.sin((other.longitudeRadians - longitudeRadians) / 2);
+        double a = sinHalfDLat * sinHalfDLat
+                + cosLatitude * other.cosLatitude * sinHalfDLon * sinHalfDLon;
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+
+    /**
+     * Returns the square of the straight-line distance between these coordinates and {@code other} on the unit
+     * sphere. It grows with the distance along the surface, so it orders coordinates by distance exactly as
+     * {@link #distanceTo(Coordinates)} does, for the cost of a few multiplications.
+     */
+    public double squaredChordTo(Coordinates other) {
+        double dx = other.x - x;
+        double dy = other.y - y;
+        double dz = other.z - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Coordinates)) {
+            return false;
+        }
+        Coordinates otherCoordinates = (Coordinates) other;
+        return Double.compare(latitude, otherCoordinates.latitude) == 0
+                && Double.compare(longitude, otherCoordinates.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%.6f, %.6f)", latitude, longitude);
+    }
+}
@@ -2,7 +2,10 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
  * Represents a geographical location in Singapore.
@@ -11,17 +14,19 @@ import java.util.Objects;
  * This class serves as the primary authority for postal code information in the application.
  * All postal code access should be done through Location objects rather than directly.
  * <p>
- * This class also provides functionality to calculate the distance between two locations.
+ * This class also provides functionality to calculate the distance between two locations. The latitude and
+ * longitude are held in {@link Coordinates}, which locations at the same postal code can share.
  */
 public class Location {
 
     public static final String MESSAGE_CONSTRAINTS = "Postal code not found: %1$s, "
             + "please key in a valid Singapore postal code";
 
+    private static final int PARALLEL_BATCH_THRESHOLD = 10_000;
+
     private final String postalCode;
     private final Address address;
-    private final double latitude;
-    private final double longitude;
+    private final Coordinates coordinates;
 
     /**
      * Constructs a {@code Location} with the specified details.
@@ -32,11 +37,17 @@ public class Location {
      * @param longitude the longitude coordinate.
      */
     public Location(String postalCode, Address address, double latitude, double longitude) {
-        requireAllNonNull(postalCode, address);
+        this(postalCode, address, new Coordinates(latitude, longitude));
+    }
+
+    /**
+     * Constructs a {@code Location} at {@code coordinates}, which may be shared with other locations.
+     */
+    public Location(String postalCode, Address address, Coordinates coordinates) {
+        requireAllNonNull(postalCode, address, coordinates);
         this.postalCode = postalCode;
         this.address = address;
-        this.latitude = latitude;
-        this.longitude = longitude;
+        this.coordinates = coordinates;
     }
 
     /**
@@ -53,12 +64,16 @@ public class Location {
         return address;
     }
 
+    public Coordinates getCoordinates() {
+        return coordinates;
+    }
+
     public double getLatitude() {
-        return latitude;
+        return coordinates.getLatitude();
     }
 
     public double getLongitude() {
-        return longitude;
+        return coordinates.getLongitude();
     }
 
     /**
@@ -69,15 +84,46 @@ public class Location {
      */
     public double distanceTo(Location other) {
         Objects.requireNonNull(other, "Other location cannot be null");
-        final int earthRadiusKm = 6371;
-        double dLat = Math.toRadians(other.latitude - this.latitude);
-        double dLon = Math.toRadians(other.longitude - this.longitude);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(this.latitude))
-                * Math.cos(Math.toRadians(other.latitude))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return earthRadiusKm * c;
+        return coordinates.distanceTo(other.coordinates);
+    }
+
+    /**
+     * Calculates the distance from this location to each of {@code others} in one pass.
+     * Large batches are split across the common fork-join pool.
+     *
+     * @param others the locations to measure the distance to.
+     * @return the distances in kilometers, in the same order as {@code others}.
+     */
+    public double[] distancesTo(List<Location> others) {
+        Objects.requireNonNull(others, "Other locations cannot be null");
+        double[] distances = new double[others.size()];
+        IntStream indices = IntStream.range(0, distances.length);
+        if (distances.length >= PARALLEL_BATCH_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> distances[i] = distanceTo(others.get(i)));
+        return distances;
+    }
+
+    /**
+     * Returns the positions of {@code distances}, nearest first, with equal distances in their original order.
+     * The positions are sorted as primitive keys, each holding a distance above its position, so no distance is boxed
+     * or looked up again while sorting. Distances closer than a {@code float} can tell apart keep their original
+     * order, which is well under a metre for any distance in Singapore.
+     */
+    public static int[] orderByDistance(double[] distances) {
+        Objects.requireNonNull(distances, "Distances cannot be null");
+        long[] keys = new long[distances.length];
+        for (int i = 0; i < distances.length; i++) {
+            // The bits of a non-negative float sort in the same order as the float itself
+            keys[i] = (long) Float.floatToIntBits((float) distances[i]) << Integer.SIZE | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            order[k] = (int) keys[k];
+        }
+        return order;
     }
 
     @Override
@@ -89,20 +135,19 @@ public class Location {
             return false;
         }
         Location location = (Location) o;
-        return Double.compare(location.latitude, latitude) == 0
-                && Double.compare(location.longitude, longitude) == 0
+        return coordinates.equals(location.coordinates)
                 && postalCode.equals(location.postalCode)
                 && address.equals(location.address);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(postalCode, address, latitude, longitude);
+        return Objects.hash(postalCode, address, coordinates);
     }
 
     @Override
     public String toString() {
         return String.format("Location[postalCode=%s, address=%s, latitude=%.6f, longitude=%.6f]",
-                postalCode, address, latitude, longitude);
+                postalCode, address, getLatitude(), getLongitude());
     }
 }
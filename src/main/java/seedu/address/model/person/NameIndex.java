@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A case-insensitive lookup structure over the names in a {@code UniquePersonList}.
+ * <p>
+ * Full names are indexed by their lower-case form, and every lower-case name is additionally broken into
+ * overlapping trigrams so that substring queries only have to verify the names sharing the rarest trigram of the
+ * query instead of every name in the list. Queries shorter than a trigram fall back to a scan that stops as soon as
+ * enough matches are found.
+ * <p>
+ * The index is maintained by its owning {@code UniquePersonList} and is not exposed outside this package.
+ */
+final class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Name, String> lowerCaseNames = new HashMap<>();
+    private final Map<String, Set<Name>> fullNamePostings = new HashMap<>();
+    private final Map<String, Set<Name>> gramPostings = new HashMap<>();
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        String lowerCaseName = name.fullName.toLowerCase();
+        lowerCaseNames.put(name, lowerCaseName);
+        fullNamePostings.computeIfAbsent(lowerCaseName, unused -> new LinkedHashSet<>()).add(name);
+        for (String gram : gramsOf(lowerCaseName)) {
+            gramPostings.computeIfAbsent(gram, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index, if present.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        String lowerCaseName = lowerCaseNames.remove(name);
+        if (lowerCaseName == null) {
+            return;
+        }
+        removePosting(fullNamePostings, lowerCaseName, name);
+        for (String gram : gramsOf(lowerCaseName)) {
+            removePosting(gramPostings, gram, name);
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    void clear() {
+        lowerCaseNames.clear();
+        fullNamePostings.clear();
+        gramPostings.clear();
+    }
+
+    /**
+     * Returns at most {@code limit} names equal to {@code fullName}, ignoring case.
+     */
+    List<Name> findByFullName(String fullName, int limit) {
+        requireNonNull(fullName);
+        Set<Name> matches = fullNamePostings.getOrDefault(fullName.toLowerCase(), Collections.emptySet());
+        return firstMatches(matches, null, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} names containing {@code keyword} as a substring, ignoring case.
+     */
+    List<Name> findBySubstring(String keyword, int limit) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            return firstMatches(lowerCaseNames.keySet(), lowerCaseKeyword, limit);
+        }
+
+        Set<Name> candidates = null;
+        for (String gram : gramsOf(lowerCaseKeyword)) {
+            Set<Name> posting = gramPostings.get(gram);
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+        return firstMatches(candidates, lowerCaseKeyword, limit);
+    }
+
+    private List<Name> firstMatches(Set<Name> candidates, String lowerCaseKeyword, int limit) {
+        List<Name> matches = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (Name candidate : candidates) {
+            if (matches.size() == limit) {
+                break;
+            }
+            if (lowerCaseKeyword == null || lowerCaseNames.get(candidate).contains(lowerCaseKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> gramsOf(String lowerCaseText) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static void removePosting(Map<String, Set<Name>> postings, String key, Name name) {
+        Set<Name> posting = postings.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(name);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -17,10 +18,12 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every person carries a stable {@code PersonId}, which is not part of its identity or equality. Constructors that are
+ * not given an id generate a fresh one.
  */
 public class Person {
 
-
+    private final PersonId id;
     private final Name name;
     private final Phone phone;
     private final Email email;
@@ -36,8 +39,17 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, String postalCode, Set<Tag> tags,
                   List<Sport> sports) {
-        requireAllNonNull(name, phone, email, address, tags, sports);
+        this(PersonId.generate(), name, phone, email, address, postalCode, tags, sports);
+    }
+
+    /**
+     * Constructor for Person class with the given stable {@code id}, returns an immutable Person object.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email, Address address, String postalCode, Set<Tag> tags,
+                  List<Sport> sports) {
+        requireAllNonNull(id, name, phone, email, address, tags, sports);
         requireNonNull(postalCode, "Postal code cannot be null");
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -54,6 +66,7 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags, List<Sport> sports) {
         requireAllNonNull(name, phone, email, address, tags, sports);
+        this.id = PersonId.generate();
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -69,6 +82,7 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        this.id = PersonId.generate();
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -85,6 +99,7 @@ public class Person {
                  SportList sports) {
         requireAllNonNull(name, phone, email, address, tags, sports);
         requireNonNull(postalCode, "Postal code cannot be null");
+        this.id = PersonId.generate();
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -97,6 +112,21 @@ public class Person {
         this.location = LocationUtil.createLocation(address, postalCode);
     }
 
+    /**
+     * Returns a copy of this person with {@code id} as its id.
+     */
+    public Person withId(PersonId id) {
+        requireNonNull(id);
+        if (id.equals(this.id)) {
+            return this;
+        }
+        return new Person(id, name, phone, email, address, getPostalCode(), tags, getSports());
+    }
+
+    public PersonId getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -150,6 +180,13 @@ public class Person {
         return new SportList(sportsCopy);
     }
 
+    /**
+     * Returns true if this person plays any sport whose {@link SportRegistry} id is set in {@code sportIds}.
+     */
+    public boolean playsAnySport(BitSet sportIds) {
+        return sports.containsAny(sportIds);
+    }
+
     public Location getLocation() {
         return this.location;
     }
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.UUID;
+
+/**
+ * Represents the stable id of a Person in the address book.
+ * Unlike the name, the id of a person never changes when the person is edited, so games refer to their participants
+ * by id rather than holding copies of them.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person ids should be UUIDs, e.g. "
+            + "123e4567-e89b-12d3-a456-426614174000";
+
+    public final String value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param id A valid person id.
+     */
+    public PersonId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = id.toLowerCase();
+    }
+
+    /**
+     * Returns a new, randomly generated id.
+     */
+    public static PersonId generate() {
+        return new PersonId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Returns true if a given string is a valid person id.
+     */
+    public static boolean isValidId(String test) {
+        try {
+            return UUID.fromString(test).toString().equalsIgnoreCase(test);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherId = (PersonId) other;
+        return value.equals(otherId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
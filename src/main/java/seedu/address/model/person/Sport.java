@@ -6,12 +6,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,9 +15,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * Represents a Sport associated with a Person in the address book.
  * Guarantees: sport name is present, not null, and is valid.
+ * <p>
+ * Sport names are interned in the {@link SportRegistry}, so equality and hashing compare the interned id of the
+ * lower-case name instead of the name itself.
  */
 public class Sport {
-    private static Set<String> validSports = new HashSet<>();
+    private static final List<String> DEFAULT_SPORTS = List.of("soccer", "basketball", "tennis", "badminton",
+            "cricket", "baseball", "volleyball", "hockey", "rugby", "golf");
 
     // Static initializer to load default sports when the class is first loaded
     static {
@@ -29,6 +29,7 @@ public class Sport {
     }
 
     public final String sportName;
+    private final int id;
 
     /**
      * Constructs a {@code Sport}.
@@ -38,6 +39,7 @@ public class Sport {
     public Sport(String sportName) {
         requireNonNull(sportName);
         this.sportName = sportName;
+        this.id = SportRegistry.intern(sportName.toLowerCase());
     }
 
     public static String getMessageConstraints() {
@@ -45,10 +47,10 @@ public class Sport {
     }
 
     /**
-     * Returns an unsorted set of valid sports. For most display purposes, use getSortedValidSports().
+     * Returns an unmodifiable set of valid sports. For most display purposes, use getSortedValidSports().
      */
     public static Set<String> getValidSports() {
-        return validSports;
+        return SportRegistry.getValidNames();
     }
 
     /**
@@ -56,7 +58,7 @@ public class Sport {
      * This is useful for displaying sports in a consistent order.
      */
     public static List<String> getSortedValidSports() {
-        return new ArrayList<>(new TreeSet<>(validSports));
+        return SportRegistry.getSortedValidNames();
     }
 
     /**
@@ -72,7 +74,7 @@ public class Sport {
         }
 
         String sportToRemove = sortedSports.get(index);
-        validSports.remove(sportToRemove);
+        SportRegistry.removeValidName(sportToRemove);
         return sportToRemove;
     }
 
@@ -83,13 +85,13 @@ public class Sport {
         ObjectMapper mapper = new ObjectMapper();
 
         if (!Files.exists(filePath)) {
-            Set<String> defaultSports = new HashSet<>(Arrays.asList("soccer", "basketball", "tennis", "badminton",
-                    "cricket", "baseball", "volleyball", "hockey", "rugby", "golf"));
-            Files.write(filePath, mapper.writeValueAsBytes(defaultSports), StandardOpenOption.CREATE);
-            validSports = defaultSports;
+            Files.write(filePath, mapper.writeValueAsBytes(DEFAULT_SPORTS), StandardOpenOption.CREATE);
+            loadDefaultSports();
         }
         try {
-            validSports = mapper.readValue(Files.readAllBytes(filePath), new TypeReference<Set<String>>() {});
+            Set<String> loadedSports = mapper.readValue(Files.readAllBytes(filePath),
+                    new TypeReference<Set<String>>() {});
+            SportRegistry.setValidNames(loadedSports.stream().map(Sport::normalize).toList());
         } catch (IOException e) {
             System.err.println("Failed to load sports from file: " + e.getMessage());
         }
@@ -99,8 +101,7 @@ public class Sport {
      * Loads the default sports.
      */
     public static void loadDefaultSports() {
-        validSports = new HashSet<>(Arrays.asList("soccer", "basketball", "tennis", "badminton",
-                "cricket", "baseball", "volleyball", "hockey", "rugby", "golf"));
+        SportRegistry.setValidNames(DEFAULT_SPORTS);
     }
 
     /**
@@ -111,7 +112,7 @@ public class Sport {
             Files.createDirectories(filePath.getParent());
         }
         ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(filePath.toFile(), validSports);
+        mapper.writeValue(filePath.toFile(), getSortedValidSports());
     }
 
     /**
@@ -119,7 +120,7 @@ public class Sport {
      */
     public static boolean isValidSport(String sportName) {
         requireNonNull(sportName);
-        return validSports.contains(sportName.toLowerCase().trim());
+        return SportRegistry.isValid(normalize(sportName));
     }
 
     /**
@@ -131,10 +132,18 @@ public class Sport {
      */
     public static boolean createValidSport(String sportName) {
         requireNonNull(sportName);
-        if (isValidSport(sportName)) { //sport already exists
-            return false;
-        }
-        return validSports.add(sportName.toLowerCase().trim());
+        return SportRegistry.addValidName(normalize(sportName));
+    }
+
+    private static String normalize(String sportName) {
+        return sportName.toLowerCase().trim();
+    }
+
+    /**
+     * Returns the id of this sport in the {@link SportRegistry}.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
@@ -157,11 +166,11 @@ public class Sport {
         if (!(other instanceof Sport otherSport)) {
             return false;
         }
-        return sportName.equalsIgnoreCase(otherSport.sportName);
+        return id == otherSport.id;
     }
 
     @Override
     public int hashCode() {
-        return sportName.toLowerCase().hashCode();
+        return Integer.hashCode(id);
     }
 }
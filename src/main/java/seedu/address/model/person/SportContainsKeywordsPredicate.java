@@ -1,16 +1,21 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Sports} matches any of the keywords given.
+ * A keyword matches a sport if it is one of the words of the sport name, ignoring case.
+ * <p>
+ * The keywords are resolved once into a bitset of {@link SportRegistry} ids, so that each test is a single bitwise
+ * intersection. The bitset is recomputed only when the valid sports have changed since it was built.
  */
 public class SportContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private volatile MatchingSports matchingSports = new MatchingSports(-1, new BitSet());
 
     public SportContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
@@ -18,11 +23,17 @@ public class SportContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
+        return person.playsAnySport(getMatchingSportIds());
+    }
 
-
-        return keywords.stream()
-                .anyMatch(keyword -> person.getSportList().asUnmodifiableList().stream()
-                        .anyMatch(sport -> StringUtil.containsWordIgnoreCase(sport.sportName, keyword)));
+    private BitSet getMatchingSportIds() {
+        MatchingSports current = matchingSports;
+        long validSportsVersion = SportRegistry.getValidSportsVersion();
+        if (current.validSportsVersion != validSportsVersion) {
+            current = new MatchingSports(validSportsVersion, SportRegistry.idsContainingAnyWord(keywords));
+            matchingSports = current;
+        }
+        return current.ids;
     }
 
     @Override
@@ -44,4 +55,17 @@ public class SportContainsKeywordsPredicate implements Predicate<Person> {
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
     }
+
+    /**
+     * The sport ids matching the keywords, as of the given version of the valid sports.
+     */
+    private static class MatchingSports {
+        private final long validSportsVersion;
+        private final BitSet ids;
+
+        MatchingSports(long validSportsVersion, BitSet ids) {
+            this.validSportsVersion = validSportsVersion;
+            this.ids = ids;
+        }
+    }
 }
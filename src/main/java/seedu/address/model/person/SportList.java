@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -14,10 +15,13 @@ import java.util.stream.Collectors;
  * A specialized list implementation for managing Sports associated with a Person.
  * This class replaces direct ArrayList usage with a more encapsulated approach.
  * Provides immutability for read operations while allowing controlled modifications.
+ * Membership is additionally tracked as a bitset of {@link SportRegistry} ids, so that membership tests and
+ * multi-sport matching are bitwise operations.
  */
 public class SportList implements Iterable<Sport> {
 
     private final List<Sport> internalList = new ArrayList<>();
+    private final BitSet sportIds = new BitSet();
 
     /**
      * Creates an empty SportList.
@@ -33,7 +37,7 @@ public class SportList implements Iterable<Sport> {
      */
     public SportList(List<Sport> sports) {
         requireNonNull(sports);
-        internalList.addAll(sports);
+        addAll(sports);
     }
 
     /**
@@ -62,7 +66,15 @@ public class SportList implements Iterable<Sport> {
      */
     public boolean contains(Sport sport) {
         requireNonNull(sport);
-        return internalList.contains(sport);
+        return sportIds.get(sport.getId());
+    }
+
+    /**
+     * Returns true if this list contains any sport whose {@link SportRegistry} id is set in {@code ids}.
+     */
+    public boolean containsAny(BitSet ids) {
+        requireNonNull(ids);
+        return sportIds.intersects(ids);
     }
 
     /**
@@ -73,6 +85,7 @@ public class SportList implements Iterable<Sport> {
     public void add(Sport sport) {
         requireNonNull(sport);
         internalList.add(sport);
+        sportIds.set(sport.getId());
     }
 
     /**
@@ -83,6 +96,7 @@ public class SportList implements Iterable<Sport> {
      */
     public boolean addAll(Collection<Sport> sports) {
         requireNonNull(sports);
+        sports.forEach(sport -> sportIds.set(sport.getId()));
         return internalList.addAll(sports);
     }
 
@@ -94,7 +108,11 @@ public class SportList implements Iterable<Sport> {
      */
     public boolean remove(Sport sport) {
         requireNonNull(sport);
-        return internalList.remove(sport);
+        boolean isRemoved = internalList.remove(sport);
+        if (isRemoved && !internalList.contains(sport)) {
+            sportIds.clear(sport.getId());
+        }
+        return isRemoved;
     }
 
     /**
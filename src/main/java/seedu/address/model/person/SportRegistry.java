@@ -0,0 +1,161 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns sport names and tracks which of them are currently valid.
+ * <p>
+ * Every distinct lower-case sport name is given a small integer id the first time it is seen. Ids are never reused,
+ * even after a sport is deleted from the valid sports, so that {@code Sport} equality, {@code SportList} membership
+ * and multi-sport matching can all be done on integers and bitsets instead of strings.
+ * <p>
+ * The valid sports are published as an immutable snapshot, with the sorted view and the ids of the sports containing
+ * each word built once per change rather than on every read. Only valid sports can be matched by word, so that matching
+ * does not depend on every name ever interned.
+ */
+public final class SportRegistry {
+
+    private static final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    /** Held while assigning a new id, so that ids are handed out in sequence. */
+    private static final Object internLock = new Object();
+
+    private static volatile ValidSports validSports = new ValidSports(Collections.emptySet(), 0);
+
+    private SportRegistry() {}
+
+    /**
+     * Returns the id of {@code normalizedName}, assigning a new id if the name has not been seen before.
+     */
+    public static int intern(String normalizedName) {
+        requireNonNull(normalizedName);
+        Integer id = idsByName.get(normalizedName);
+        if (id != null) {
+            return id;
+        }
+        synchronized (internLock) {
+            return idsByName.computeIfAbsent(normalizedName, unused -> idsByName.size());
+        }
+    }
+
+    /**
+     * Returns the ids of the valid sports whose name contains any of {@code keywords} as a word, ignoring case.
+     */
+    public static BitSet idsContainingAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        ValidSports current = validSports;
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            BitSet matches = current.idsByWord.get(keyword.toLowerCase());
+            if (matches != null) {
+                ids.or(matches);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a number that changes every time the valid sports change.
+     */
+    public static long getValidSportsVersion() {
+        return validSports.version;
+    }
+
+    /**
+     * Returns true if {@code normalizedName} is one of the valid sports.
+     */
+    public static boolean isValid(String normalizedName) {
+        requireNonNull(normalizedName);
+        Integer id = idsByName.get(normalizedName);
+        return id != null && validSports.ids.get(id);
+    }
+
+    /**
+     * Returns an unmodifiable set of the valid sport names.
+     */
+    public static Set<String> getValidNames() {
+        return validSports.names;
+    }
+
+    /**
+     * Returns an unmodifiable, alphabetically sorted list of the valid sport names.
+     */
+    public static List<String> getSortedValidNames() {
+        return validSports.sortedNames;
+    }
+
+    /**
+     * Replaces the valid sports with {@code normalizedNames}.
+     */
+    public static synchronized void setValidNames(Collection<String> normalizedNames) {
+        requireNonNull(normalizedNames);
+        validSports = new ValidSports(normalizedNames, validSports.version + 1);
+    }
+
+    /**
+     * Adds {@code normalizedName} to the valid sports.
+     *
+     * @return true if the sport was added, false if it was already valid.
+     */
+    public static synchronized boolean addValidName(String normalizedName) {
+        requireNonNull(normalizedName);
+        if (isValid(normalizedName)) {
+            return false;
+        }
+        List<String> names = new ArrayList<>(validSports.sortedNames);
+        names.add(normalizedName);
+        validSports = new ValidSports(names, validSports.version + 1);
+        return true;
+    }
+
+    /**
+     * Removes {@code normalizedName} from the valid sports. Its id stays reserved.
+     *
+     * @return true if the sport was removed, false if it was not valid.
+     */
+    public static synchronized boolean removeValidName(String normalizedName) {
+        requireNonNull(normalizedName);
+        if (!isValid(normalizedName)) {
+            return false;
+        }
+        List<String> names = new ArrayList<>(validSports.sortedNames);
+        names.remove(normalizedName);
+        validSports = new ValidSports(names, validSports.version + 1);
+        return true;
+    }
+
+    /**
+     * An immutable snapshot of the valid sports.
+     */
+    private static class ValidSports {
+        private final BitSet ids = new BitSet();
+        private final Map<String, BitSet> idsByWord = new HashMap<>();
+        private final Set<String> names;
+        private final List<String> sortedNames;
+        private final long version;
+
+        ValidSports(Collection<String> normalizedNames, long version) {
+            TreeSet<String> sorted = new TreeSet<>(normalizedNames);
+            for (String name : sorted) {
+                int id = intern(name);
+                ids.set(id);
+                for (String word : name.trim().split("\\s+")) {
+                    idsByWord.computeIfAbsent(word, unused -> new BitSet()).set(id);
+                }
+            }
+            names = Collections.unmodifiableSet(sorted);
+            sortedNames = List.copyOf(sorted);
+            this.version = version;
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,34 +21,74 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Name}, the field that {@code Person#isSamePerson(Person)} compares, so
+ * that identity checks run in constant time instead of scanning the whole list, and by a {@code NameIndex} that
+ * answers case-insensitive full and partial name lookups. Persons are also indexed by their {@code PersonId}, which
+ * is unique within the list and which a person keeps when they are replaced by an edited copy. All indexes are kept in
+ * sync by every mutating operation.
+ *
+ * Mutations can be staged in a batch, during which they are applied to a working copy of the list while the
+ * observable list keeps showing the state before the batch. Committing the batch publishes all of them as a single
+ * change to the observable list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final int MATCH_LIMIT = 2;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> identityIndex = new HashMap<>();
+    private final Map<PersonId, Person> idIndex = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private List<Person> workingList;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the same identity as {@code person}, or null if there is none.
+     */
+    public Person getPersonWithSameIdentity(Person person) {
+        requireNonNull(person);
+        return identityIndex.get(person.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, or null if there is none.
+     */
+    public Person getPersonById(PersonId id) {
+        requireNonNull(id);
+        return idIndex.get(id);
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list. If another person in the list has the same id, the person is
+     * given a fresh id instead.
+     *
+     * @return the person stored in the list.
      */
-    public void add(Person toAdd) {
+    public Person add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person stored = idIndex.containsKey(toAdd.getId()) ? toAdd.withId(PersonId.generate()) : toAdd;
+        list().add(stored);
+        identityIndex.put(stored.getName(), stored);
+        idIndex.put(stored.getId(), stored);
+        nameIndex.add(stored.getName());
+        return stored;
     }
 
     /**
@@ -54,25 +97,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person getPerson(String nameOfPersonToGet) {
         requireNonNull(nameOfPersonToGet);
-        List<Person> filteredList = internalList.stream().filter(
-                person -> {
-                    String fullName = person.getName().fullName.toLowerCase();
-                    String personToFind = nameOfPersonToGet.toLowerCase();
-
-                    if (nameOfPersonToGet.contains(" ")) {
-                        return fullName.equals(personToFind);
-                    }
-
-                    return fullName.contains(personToFind);
-                }).toList();
-        if (filteredList.size() == 0) {
+        List<Person> matches = findByName(nameOfPersonToGet);
+        if (matches.size() == 0) {
             throw new PersonNotFoundException();
         }
-        if (filteredList.size() > 1) {
+        if (matches.size() > 1) {
             throw new DuplicatePersonException();
         }
-        Person toReturn = filteredList.get(0);
-        return toReturn;
+        return matches.get(0);
     }
 
     /**
@@ -81,38 +113,63 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean isPersonUnique(String nameOfPersonToGet) {
         requireNonNull(nameOfPersonToGet);
-        List<Person> filteredList = internalList.stream().filter(
-                person -> {
-                    String fullName = person.getName().fullName.toLowerCase();
-                    String personToFind = nameOfPersonToGet.toLowerCase();
+        return findByName(nameOfPersonToGet).size() == 1;
+    }
 
-                    if (nameOfPersonToGet.contains(" ")) {
-                        return fullName.equals(personToFind);
-                    }
+    /**
+     * Returns the persons whose full name equals {@code fullName}, ignoring case.
+     * At most two persons are returned, which is enough to tell a unique match from an ambiguous one.
+     */
+    public List<Person> findByFullName(String fullName) {
+        requireNonNull(fullName);
+        return toPersons(nameIndex.findByFullName(fullName, MATCH_LIMIT));
+    }
 
-                    return fullName.contains(personToFind);
-                }).toList();
-        return filteredList.size() == 1;
+    /**
+     * Returns the persons matching {@code nameOfPersonToGet}, ignoring case. A query containing a space must match a
+     * full name exactly, while a single word may match any part of a name.
+     * At most two persons are returned, which is enough to tell a unique match from an ambiguous one.
+     */
+    private List<Person> findByName(String nameOfPersonToGet) {
+        if (nameOfPersonToGet.contains(" ")) {
+            return findByFullName(nameOfPersonToGet);
+        }
+        return toPersons(nameIndex.findBySubstring(nameOfPersonToGet, MATCH_LIMIT));
+    }
+
+    private List<Person> toPersons(List<Name> names) {
+        return names.stream().map(identityIndex::get).toList();
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with {@code editedPerson}, which takes over the id of
+     * {@code target}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return the person stored in place of {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person storedTarget = identityIndex.get(target.getName());
+        if (!target.equals(storedTarget)) {
             throw new PersonNotFoundException();
         }
+        int index = list().indexOf(target);
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person stored = editedPerson.withId(storedTarget.getId());
+        list().set(index, stored);
+        identityIndex.remove(target.getName());
+        nameIndex.remove(target.getName());
+        identityIndex.put(stored.getName(), stored);
+        idIndex.put(stored.getId(), stored);
+        nameIndex.add(stored.getName());
+        return stored;
     }
 
     /**
@@ -121,27 +178,107 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(identityIndex.get(toRemove.getName())) || !list().remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        Person storedKey = identityIndex.remove(toRemove.getName());
+        idIndex.remove(storedKey.getId());
+        nameIndex.remove(toRemove.getName());
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.list());
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons or duplicate ids.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Person> replacementIndex = indexByIdentity(persons);
+        Map<PersonId, Person> replacementIdIndex = indexById(persons);
+        if (replacementIndex == null || replacementIdIndex == null) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        if (workingList != null) {
+            workingList = new ArrayList<>(persons);
+        } else {
+            internalList.setAll(persons);
+        }
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        nameIndex.clear();
+        replacementIndex.keySet().forEach(nameIndex::add);
+    }
+
+    /**
+     * Starts staging mutations in a batch. Until the batch is committed or rolled back, the observable list keeps
+     * showing the persons as they were before the batch, while every other operation sees the staged changes.
+     */
+    public void beginBatch() {
+        if (workingList == null) {
+            workingList = new ArrayList<>(internalList);
+        }
+    }
+
+    /**
+     * Publishes the mutations staged since {@link #beginBatch()} as a single change to the observable list.
+     * No change is published if the batch left the list as it was.
+     */
+    public void commitBatch() {
+        if (workingList == null) {
+            return;
+        }
+        List<Person> staged = workingList;
+        workingList = null;
+        if (!isSameInstances(staged, internalList)) {
+            internalList.setAll(staged);
+        }
+    }
+
+    /**
+     * Discards the mutations staged since {@link #beginBatch()}.
+     */
+    public void rollbackBatch() {
+        if (workingList == null) {
+            return;
+        }
+        workingList = null;
+        identityIndex.clear();
+        idIndex.clear();
+        nameIndex.clear();
+        for (Person person : internalList) {
+            identityIndex.put(person.getName(), person);
+            idIndex.put(person.getId(), person);
+            nameIndex.add(person.getName());
+        }
+    }
+
+    private static boolean isSameInstances(List<Person> first, List<Person> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the list that mutations apply to: the working copy during a batch, and the observable list otherwise.
+     */
+    private List<Person> list() {
+        return workingList != null ? workingList : internalList;
     }
 
     /**
@@ -153,7 +290,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return list().iterator();
     }
 
     @Override
@@ -168,30 +305,42 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return list().equals(otherUniquePersonList.list());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return list().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return list().toString();
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns {@code persons} indexed by identity, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Person> indexByIdentity(List<Person> persons) {
+        Map<Name, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns {@code persons} indexed by id, or null if {@code persons} contains duplicate ids.
+     */
+    private static Map<PersonId, Person> indexById(List<Person> persons) {
+        Map<PersonId, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getId(), person) != null) {
+                return null;
+            }
+        }
+        return index;
     }
 }
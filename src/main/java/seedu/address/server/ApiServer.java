@@ -0,0 +1,457 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.LocationUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.person.Location;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Sport;
+
+/**
+ * Serves the address book over HTTP on the loopback interface, as JSON.
+ * <p>
+ * Queries are answered by a bounded pool of request threads from an immutable snapshot of the address book, so they
+ * run concurrently with each other and with commands. Commands are run through {@code Logic} one at a time on a
+ * single writer thread. A snapshot is only taken when a query needs one, and the model shares it with any other
+ * reader of the same version.
+ * The latency of every request is recorded per endpoint and reported by {@value #STATS_PATH}.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String NEARBY_PERSONS_PATH = "/api/persons/nearby";
+    public static final String GAMES_PATH = "/api/games";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String STATS_PATH = "/api/stats";
+
+    private static final int REQUEST_QUEUE_CAPACITY = 256;
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 100};
+    private static final String[] REPORTED_PERCENTILE_NAMES = {"p50Ms", "p90Ms", "p99Ms", "maxMs"};
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final HttpServer httpServer;
+    private final ThreadPoolExecutor requestExecutor;
+    private final ExecutorService writer;
+    private final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+    private final CountDownLatch exitLatch = new CountDownLatch(1);
+
+    /**
+     * Creates an {@code ApiServer} for the address book of {@code logic} on the given local port, or on any free port
+     * if it is 0. The server does not accept requests until it is started.
+     *
+     * @throws IOException if the port could not be bound.
+     */
+    public ApiServer(Logic logic, int port) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        // Once the queue is full, the thread accepting connections serves requests itself, slowing down new arrivals
+        requestExecutor = new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REQUEST_QUEUE_CAPACITY), newThreadFactory("api-request"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        writer = Executors.newSingleThreadExecutor(newThreadFactory("api-writer"));
+        httpServer.setExecutor(requestExecutor);
+
+        addEndpoint(PERSONS_PATH, "GET", this::findPersons);
+        addEndpoint(NEARBY_PERSONS_PATH, "GET", this::findNearbyPersons);
+        addEndpoint(GAMES_PATH, "GET", this::listGames);
+        addEndpoint(COMMANDS_PATH, "POST", this::executeCommand);
+        addEndpoint(STATS_PATH, "GET", exchange -> Response.ok(getLatencyStats()));
+    }
+
+    private static ThreadFactory newThreadFactory(String name) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("Serving the address book at http://" + httpServer.getAddress().getHostString() + ":" + getPort()
+                + "/api");
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for those in progress, and stops the request and writer threads.
+     */
+    public void stop() {
+        httpServer.stop(STOP_DELAY_SECONDS);
+        requestExecutor.shutdown();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until an exit command has been run through the server.
+     */
+    public void awaitExit() throws InterruptedException {
+        exitLatch.await();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Returns the number of requests to each endpoint and the percentiles of their latencies, in milliseconds.
+     */
+    public Map<String, Map<String, Object>> getLatencyStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        latencies.forEach((path, recorder) -> {
+            Map<String, Object> endpointStats = new LinkedHashMap<>();
+            endpointStats.put("count", recorder.getCount());
+            double[] percentiles = recorder.getPercentilesMillis(REPORTED_PERCENTILES);
+            for (int i = 0; i < percentiles.length; i++) {
+                endpointStats.put(REPORTED_PERCENTILE_NAMES[i], percentiles[i]);
+            }
+            stats.put(path, endpointStats);
+        });
+        return stats;
+    }
+
+    private void addEndpoint(String path, String method, Endpoint endpoint) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        latencies.put(path, recorder);
+        httpServer.createContext(path, exchange -> {
+            long startTime = System.nanoTime();
+            try {
+                Response response;
+                if (!exchange.getRequestURI().getPath().equals(path)) {
+                    response = Response.error(404, "No such endpoint: " + exchange.getRequestURI().getPath());
+                } else if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+                    response = Response.error(405, "Use " + method + " for " + path);
+                } else {
+                    response = endpoint.handle(exchange);
+                }
+                send(exchange, response);
+            } catch (RequestException e) {
+                send(exchange, Response.error(400, e.getMessage()));
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to serve " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+                send(exchange, Response.error(500, "Internal server error"));
+            } finally {
+                exchange.close();
+                recorder.record(System.nanoTime() - startTime);
+            }
+        });
+    }
+
+    private static void send(HttpExchange exchange, Response response) {
+        try {
+            byte[] body = JsonUtil.toCompactJsonString(response.body)
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            // The client has gone away, or the response had already been started
+            logger.fine("Failed to send the response to " + exchange.getRequestURI() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lists the persons whose name contains any of the words in the {@code name} parameter, or all persons if it is
+     * absent, sorted by name.
+     */
+    private Response findPersons(HttpExchange exchange) {
+        AddressBook current = logic.getAddressBookSnapshot();
+        Map<String, String> parameters = parseQuery(exchange);
+        List<Person> persons = new ArrayList<>(current.getPersonList());
+        String name = parameters.get("name");
+        if (name != null && !name.isBlank()) {
+            persons.removeIf(new NameContainsKeywordsPredicate(Arrays.asList(name.trim().split("\\s+"))).negate());
+        }
+        persons.sort(Comparator.comparing(person -> person.getName().fullName.toLowerCase()));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", current.getVersion());
+        body.put("persons", persons.stream().map(person -> toJson(person, null)).collect(Collectors.toList()));
+        return Response.ok(body);
+    }
+
+    /**
+     * Lists the persons nearest first to the {@code postalCode} parameter, keeping only those who play any of the
+     * comma-separated sports in the {@code sport} parameter, who live within the {@code radius} parameter in
+     * kilometres, and the nearest {@code limit} of them, where each of these parameters is given.
+     * Sports are matched as by {@code findsport}, and must be valid sports.
+     */
+    private Response findNearbyPersons(HttpExchange exchange) throws RequestException {
+        AddressBook current = logic.getAddressBookSnapshot();
+        Map<String, String> parameters = parseQuery(exchange);
+        String postalCode = parameters.get("postalCode");
+        if (postalCode == null || !LocationUtil.isValidPostalCode(postalCode.trim())) {
+            throw new RequestException("A valid postalCode parameter is required");
+        }
+        Location origin = LocationUtil.createLocation(postalCode.trim());
+
+        List<String> sportKeywords = null;
+        String sports = parameters.get("sport");
+        if (sports != null && !sports.isBlank()) {
+            sportKeywords = Arrays.stream(sports.split(","))
+                    .map(String::trim)
+                    .filter(sport -> !sport.isEmpty())
+                    .collect(Collectors.toList());
+            for (String sport : sportKeywords) {
+                if (!Sport.isValidSport(sport)) {
+                    throw new RequestException("Invalid sport: " + sport);
+                }
+            }
+        }
+        Double radiusKm = parameters.containsKey("radius") ? parseDouble(parameters, "radius") : null;
+
+        List<Map<String, Object>> nearest = new ArrayList<>();
+        if (parameters.containsKey("limit")) {
+            // Only the persons near the origin are measured, rather than every match
+            int limit = parseInt(parameters, "limit");
+            Predicate<Person> matches = sportKeywords != null
+                    ? current.getPersonsPlayingAnySport(sportKeywords)::contains
+                    : unused -> true;
+            List<Person> persons = radiusKm != null
+                    ? current.getNearestPersonsWithinRadius(origin, radiusKm, limit, matches)
+                    : current.getNearestPersons(origin, limit, matches);
+            persons.forEach(person -> nearest.add(toJson(person, person.getLocation().distanceTo(origin))));
+        } else {
+            Collection<Person> matches;
+            if (sportKeywords != null && radiusKm != null) {
+                matches = current.getPersonsPlayingAnySportWithinRadius(sportKeywords, origin, radiusKm);
+            } else if (sportKeywords != null) {
+                matches = current.getPersonsPlayingAnySport(sportKeywords);
+            } else if (radiusKm != null) {
+                matches = current.getPersonsWithinRadius(origin, radiusKm);
+            } else {
+                matches = current.getPersonList();
+            }
+            List<Person> persons = new ArrayList<>(matches);
+
+            // Each distance is measured once, and the positions are sorted by them
+            List<Location> locations = new ArrayList<>(persons.size());
+            persons.forEach(person -> locations.add(person.getLocation()));
+            double[] distances = origin.distancesTo(locations);
+            for (int position : Location.orderByDistance(distances)) {
+                nearest.add(toJson(persons.get(position), distances[position]));
+            }
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", current.getVersion());
+        body.put("persons", nearest);
+        return Response.ok(body);
+    }
+
+    /**
+     * Lists all games in chronological order, with the names of their participants.
+     */
+    private Response listGames(HttpExchange exchange) {
+        AddressBook current = logic.getAddressBookSnapshot();
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (Game game : current.getGameList()) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("sport", game.getSport().sportName);
+            json.put("dateTime", game.getDateTime().toString());
+            json.put("postalCode", game.getLocation().getPostalCode());
+            json.put("address", game.getLocation().getAddress().value);
+            json.put("participants", current.getParticipants(game).stream()
+                    .map(person -> person.getName().fullName)
+                    .collect(Collectors.toList()));
+            games.add(json);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("version", current.getVersion());
+        body.put("games", games);
+        return Response.ok(body);
+    }
+
+    /**
+     * Runs the command in the request body on the writer thread and waits for its result.
+     */
+    private Response executeCommand(HttpExchange exchange) throws IOException, RequestException {
+        String commandText;
+        try (InputStream in = exchange.getRequestBody()) {
+            commandText = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        if (commandText.isEmpty()) {
+            throw new RequestException("The request body must hold a command");
+        }
+
+        try {
+            return writer.submit(() -> runCommand(commandText)).get();
+        } catch (ExecutionException e) {
+            throw new IOException("Command failed unexpectedly: " + commandText, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.error(503, "The server is stopping");
+        }
+    }
+
+    private Response runCommand(String commandText) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        int status;
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            body.put("success", true);
+            body.put("feedback", commandResult.getFeedbackToUser());
+            status = 200;
+            if (commandResult.isExit()) {
+                exitLatch.countDown();
+            }
+        } catch (CommandException | ParseException e) {
+            body.put("success", false);
+            body.put("feedback", e.getMessage());
+            status = 400;
+        }
+        // A failed command may still have changed the address book, if only saving it failed
+        body.put("version", logic.getAddressBookVersion());
+        return new Response(status, body);
+    }
+
+    private static Map<String, Object> toJson(Person person, Double distanceKm) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", person.getName().fullName);
+        json.put("phone", person.getPhone().value);
+        json.put("email", person.getEmail().value);
+        json.put("address", person.getAddress().value);
+        json.put("postalCode", person.getPostalCode());
+        json.put("sports", person.getSports().stream().map(sport -> sport.sportName).collect(Collectors.toList()));
+        if (distanceKm != null) {
+            json.put("distanceKm", distanceKm);
+        }
+        return json;
+    }
+
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static double parseDouble(Map<String, String> parameters, String name) throws RequestException {
+        try {
+            double value = Double.parseDouble(parameters.get(name).trim());
+            if (!(value >= 0) || Double.isInfinite(value)) {
+                throw new NumberFormatException();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new RequestException("The " + name + " parameter must be a non-negative number");
+        }
+    }
+
+    private static int parseInt(Map<String, String> parameters, String name) throws RequestException {
+        try {
+            int value = Integer.parseInt(parameters.get(name).trim());
+            if (value < 0) {
+                throw new NumberFormatException();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new RequestException("The " + name + " parameter must be a non-negative integer");
+        }
+    }
+
+    /**
+     * Handles the requests to one endpoint.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Response handle(HttpExchange exchange) throws IOException, RequestException;
+    }
+
+    /**
+     * Signals that a request is malformed, and is answered with status 400 and the message of this exception.
+     */
+    private static class RequestException extends Exception {
+        RequestException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * The status and JSON body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(Object body) {
+            return new Response(200, body);
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.server;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latencies of the most recent requests to one endpoint and reports their percentiles.
+ * Only the latest {@code capacity} latencies are kept, so the percentiles follow the current load, while the count
+ * covers every request recorded. It is safe to use from several threads.
+ */
+public class LatencyRecorder {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final long[] latenciesNanos;
+    private long count;
+
+    /**
+     * Creates a {@code LatencyRecorder} that keeps the latest {@link #DEFAULT_CAPACITY} latencies.
+     */
+    public LatencyRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code LatencyRecorder} that keeps the latest {@code capacity} latencies.
+     */
+    public LatencyRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        latenciesNanos = new long[capacity];
+    }
+
+    /**
+     * Records a request that took {@code latencyNanos} nanoseconds.
+     */
+    public synchronized void record(long latencyNanos) {
+        latenciesNanos[(int) (count % latenciesNanos.length)] = latencyNanos;
+        count++;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the given percentiles, between 0 and 100, of the latencies kept, in milliseconds and in the same order.
+     * Every percentile is 0 if no latency has been recorded.
+     */
+    public double[] getPercentilesMillis(double... percentiles) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latenciesNanos, (int) Math.min(count, latenciesNanos.length));
+        }
+        Arrays.sort(sorted);
+
+        double[] results = new double[percentiles.length];
+        if (sorted.length == 0) {
+            return results;
+        }
+        for (int i = 0; i < percentiles.length; i++) {
+            if (percentiles[i] < 0 || percentiles[i] > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentiles[i]);
+            }
+            // Nearest-rank percentile: the smallest latency at least that percentage of latencies do not exceed
+            int rank = (int) Math.ceil(percentiles[i] / 100 * sorted.length);
+            long latencyNanos = sorted[Math.max(rank, 1) - 1];
+            results[i] = latencyNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Builds an {@code AddressBook} from JSON-friendly persons and games, converting and validating them in parallel.
+ * <p>
+ * Persons are converted in batches of {@value #BATCH_SIZE} as they are added, each batch split into chunks of
+ * {@value #CHUNK_SIZE} that are converted on the common {@code ForkJoinPool}. Duplicates are then found in one pass
+ * over the converted batch, with hash sets of the names and ids seen so far. Games are converted the same way once all
+ * persons are known, since participants stored in the old format are matched to them. Persons and games are finally
+ * inserted into the address book in bulk, so that its lists and indices are built once rather than per entry.
+ * <p>
+ * Failures are reported in the order of the entries, as they would be by converting them one at a time.
+ * A loader builds a single address book.
+ */
+class AddressBookLoader {
+
+    static final int CHUNK_SIZE = 256;
+    static final int BATCH_SIZE = 16 * CHUNK_SIZE;
+
+    private final List<JsonAdaptedPerson> pendingPersons = new ArrayList<>();
+    private final List<JsonAdaptedGame> pendingGames = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> names = new HashSet<>();
+    private final Set<PersonId> ids = new HashSet<>();
+
+    /**
+     * Adds {@code person} to the address book being built.
+     *
+     * @throws IllegalValueException if a person in the batch completed by {@code person} violates data constraints,
+     *     or duplicates an earlier person.
+     */
+    void addPerson(JsonAdaptedPerson person) throws IllegalValueException {
+        requireNonNull(person);
+        pendingPersons.add(person);
+        if (pendingPersons.size() >= BATCH_SIZE) {
+            convertPendingPersons();
+        }
+    }
+
+    /**
+     * Adds {@code game} to the address book being built. Games are converted by {@link #load()}.
+     */
+    void addGame(JsonAdaptedGame game) {
+        requireNonNull(game);
+        pendingGames.add(game);
+    }
+
+    /**
+     * Converts the remaining persons and all games, and returns the address book holding them.
+     *
+     * @throws IllegalValueException if a person or game violates data constraints, or duplicates an earlier one.
+     */
+    AddressBook load() throws IllegalValueException {
+        convertPendingPersons();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        List<Game> games = convertAll(pendingGames, game -> game.toModelType(addressBook));
+        pendingGames.clear();
+        Set<LocalDateTime> dateTimes = new HashSet<>();
+        for (Game game : games) {
+            if (!dateTimes.add(game.getDateTime())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_GAME);
+            }
+        }
+        addressBook.setGames(games);
+        return addressBook;
+    }
+
+    private void convertPendingPersons() throws IllegalValueException {
+        List<Person> converted = convertAll(pendingPersons, JsonAdaptedPerson::toModelType);
+        pendingPersons.clear();
+        for (Person person : converted) {
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            if (!ids.add(person.getId())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID);
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Returns {@code sources} converted by {@code converter}, in order, converting chunks of them in parallel.
+     *
+     * @throws IllegalValueException the failure of the first source that could not be converted.
+     */
+    static <S, T> List<T> convertAll(List<S> sources, Converter<S, T> converter) throws IllegalValueException {
+        int chunkCount = (sources.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<T> results = new ArrayList<>(Collections.nCopies(sources.size(), null));
+        IllegalValueException[] failures = new IllegalValueException[chunkCount];
+        if (chunkCount == 1) {
+            new ConversionTask<>(sources, converter, results, failures, 0, sources.size()).compute();
+        } else if (chunkCount > 1) {
+            ForkJoinPool.commonPool().invoke(
+                    new ConversionTask<>(sources, converter, results, failures, 0, sources.size()));
+        }
+        for (IllegalValueException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Converts a JSON-friendly value into the model's type.
+     */
+    @FunctionalInterface
+    interface Converter<S, T> {
+        T convert(S source) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the sources in a range that starts at a chunk boundary, splitting it in halves along chunk boundaries
+     * until a single chunk is left. The first failure in each chunk is kept at the index of the chunk.
+     */
+    private static class ConversionTask<S, T> extends RecursiveAction {
+        private final List<S> sources;
+        private final Converter<S, T> converter;
+        private final List<T> results;
+        private final IllegalValueException[] failures;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<S> sources, Converter<S, T> converter, List<T> results,
+                IllegalValueException[] failures, int start, int end) {
+            this.sources = sources;
+            this.converter = converter;
+            this.results = results;
+            this.failures = failures;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            int chunkCount = (end - start + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            if (chunkCount > 1) {
+                int middle = start + (chunkCount + 1) / 2 * CHUNK_SIZE;
+                invokeAll(new ConversionTask<>(sources, converter, results, failures, start, middle),
+                        new ConversionTask<>(sources, converter, results, failures, middle, end));
+                return;
+            }
+            try {
+                for (int i = start; i < end; i++) {
+                    results.set(i, converter.convert(sources.get(i)));
+                }
+            } catch (IllegalValueException e) {
+                failures[start / CHUNK_SIZE] = e;
+            }
+        }
+    }
+}
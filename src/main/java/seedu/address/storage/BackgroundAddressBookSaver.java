@@ -0,0 +1,285 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book to an {@code AddressBookStorage} on a dedicated background thread, so that callers never
+ * wait for disk I/O.
+ * <p>
+ * Each {@link #requestSave(Supplier, long)} asks for a version of the address book to be saved, unless that version has
+ * already been saved or is about to be. Requests made in a burst are coalesced: a snapshot is taken from the latest
+ * request and written once no further request has arrived for the debounce delay, or once the oldest unwritten
+ * request has waited for the maximum latency. Snapshots are taken on the thread that writes them, so the callers
+ * never wait for the address book to be copied either.
+ * Failures of background writes are reported to the save listener and kept until taken with {@link #takeFailure()}.
+ * A request whose write failed stays pending unless a newer one has arrived, so that it is retried after
+ * {@value #RETRY_DELAY_MILLIS}ms, or by the next {@link #flush()}.
+ */
+public class BackgroundAddressBookSaver {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 1000;
+    public static final long RETRY_DELAY_MILLIS = 5000;
+
+    /** The version reported as last saved before any save has succeeded. */
+    public static final long NO_SAVED_VERSION = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long debounceNanos;
+    private final long maxLatencyNanos;
+    private final Thread writerThread;
+
+    /** Guards the pending request, the last saved version, the request times, the failure and the shutdown flag. */
+    private final Object lock = new Object();
+    /** Held while taking and writing a snapshot, so that an older snapshot never overwrites a newer one. */
+    private final Object writeLock = new Object();
+
+    private SaveRequest pendingRequest;
+    private long lastSavedVersion = NO_SAVED_VERSION;
+    private long firstRequestNanos;
+    private long lastRequestNanos;
+    private IOException failure;
+    private boolean isShutdown;
+    private Consumer<Optional<IOException>> saveListener = result -> {};
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage} with the default debounce delay and
+     * maximum latency.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage) {
+        this(storage, DEFAULT_DEBOUNCE_MILLIS, DEFAULT_MAX_LATENCY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes to {@code storage} once no save has been requested for
+     * {@code debounceMillis}, or once the oldest unwritten request is {@code maxLatencyMillis} old.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage, long debounceMillis, long maxLatencyMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(debounceMillis, maxLatencyMillis));
+        writerThread = new Thread(this::runWriter, "address-book-saver");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Sets the listener notified on the writer thread after each background write, with the failure if the write
+     * failed, or an empty {@code Optional} if it succeeded.
+     */
+    public void setSaveListener(Consumer<Optional<IOException>> saveListener) {
+        requireNonNull(saveListener);
+        synchronized (lock) {
+            this.saveListener = saveListener;
+        }
+    }
+
+    /**
+     * Requests the address book, whose data is at the given {@code version}, to be saved in the background.
+     * Nothing is saved if that version was the last one saved successfully, or is already waiting to be saved.
+     * Otherwise, once the save is due, the snapshot to write is taken from {@code snapshotSupplier} on the writing
+     * thread, and must not change afterwards. The snapshot may be of a later version than requested.
+     */
+    public void requestSave(Supplier<? extends ReadOnlyAddressBook> snapshotSupplier, long version) {
+        requireNonNull(snapshotSupplier);
+        synchronized (lock) {
+            if (isShutdown) {
+                throw new IllegalStateException("The saver has been shut down");
+            }
+            long unchangedVersion = pendingRequest != null ? pendingRequest.version : lastSavedVersion;
+            if (version == unchangedVersion) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (pendingRequest == null) {
+                firstRequestNanos = now;
+            }
+            lastRequestNanos = now;
+            pendingRequest = new SaveRequest(snapshotSupplier, version);
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns the version of the address book last saved successfully, or {@link #NO_SAVED_VERSION} if none has been.
+     */
+    public long getLastSavedVersion() {
+        synchronized (lock) {
+            return lastSavedVersion;
+        }
+    }
+
+    /**
+     * Returns the failure of the last background write that failed, if it has not been taken before.
+     */
+    public Optional<IOException> takeFailure() {
+        synchronized (lock) {
+            Optional<IOException> takenFailure = Optional.ofNullable(failure);
+            failure = null;
+            return takenFailure;
+        }
+    }
+
+    /**
+     * Takes the snapshot of the pending request, if any, and writes it on the calling thread.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            SaveRequest request = takePendingRequest();
+            if (request != null) {
+                save(request);
+            }
+        }
+    }
+
+    /**
+     * Stops the writer thread and writes the snapshot of the pending request, if any, on the calling thread.
+     * No further saves may be requested afterwards.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    public void shutdown() throws IOException {
+        synchronized (lock) {
+            isShutdown = true;
+            lock.notifyAll();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void runWriter() {
+        while (awaitDueRequest()) {
+            synchronized (writeLock) {
+                SaveRequest request = takePendingRequest();
+                if (request != null) {
+                    write(request);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until the pending request is due to be written.
+     *
+     * @return false if the saver has been shut down or the writer thread was interrupted.
+     */
+    private boolean awaitDueRequest() {
+        synchronized (lock) {
+            try {
+                while (!isShutdown) {
+                    if (pendingRequest == null) {
+                        lock.wait();
+                        continue;
+                    }
+                    long now = System.nanoTime();
+                    long waitNanos = Math.min(lastRequestNanos + debounceNanos, firstRequestNanos + maxLatencyNanos)
+                            - now;
+                    if (waitNanos <= 0) {
+                        return true;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(lock, waitNanos);
+                }
+            } catch (InterruptedException e) {
+                logger.warning("Address book saver interrupted, unwritten changes are left for the final flush");
+            }
+            return false;
+        }
+    }
+
+    private SaveRequest takePendingRequest() {
+        synchronized (lock) {
+            SaveRequest request = pendingRequest;
+            pendingRequest = null;
+            return request;
+        }
+    }
+
+    /**
+     * Takes the snapshot of {@code request} and writes it.
+     * A snapshot older than the requested version, taken while the address book was being changed, or one that could
+     * not be written, leaves the request pending, unless a newer request has arrived meanwhile.
+     */
+    private void save(SaveRequest request) throws IOException {
+        ReadOnlyAddressBook snapshot = request.snapshotSupplier.get();
+        long savedVersion = snapshot instanceof AddressBook ? ((AddressBook) snapshot).getVersion() : request.version;
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            synchronized (lock) {
+                keepPending(request, TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY_MILLIS));
+            }
+            throw e;
+        }
+        synchronized (lock) {
+            lastSavedVersion = savedVersion;
+            if (savedVersion < request.version) {
+                keepPending(request, 0);
+            }
+        }
+    }
+
+    /**
+     * Makes {@code request} pending again, to be written no sooner than {@code delayNanos} from now, unless a newer
+     * request has arrived meanwhile. Must be called while holding the lock.
+     */
+    private void keepPending(SaveRequest request, long delayNanos) {
+        if (pendingRequest != null) {
+            return;
+        }
+        pendingRequest = request;
+        firstRequestNanos = System.nanoTime() + delayNanos;
+        lastRequestNanos = firstRequestNanos;
+    }
+
+    private void write(SaveRequest request) {
+        Optional<IOException> result;
+        try {
+            save(request);
+            result = Optional.empty();
+        } catch (IOException e) {
+            logger.warning("Failed to save the address book in the background: " + StringUtil.getDetails(e));
+            result = Optional.of(e);
+        }
+
+        Consumer<Optional<IOException>> listener;
+        synchronized (lock) {
+            result.ifPresent(e -> failure = e);
+            listener = saveListener;
+        }
+        listener.accept(result);
+    }
+
+    /**
+     * A request to save a version of the address book, and where to take its snapshot from once the save is due.
+     */
+    private static class SaveRequest {
+        private final Supplier<? extends ReadOnlyAddressBook> snapshotSupplier;
+        private final long version;
+
+        SaveRequest(Supplier<? extends ReadOnlyAddressBook> snapshotSupplier, long version) {
+            this.snapshotSupplier = snapshotSupplier;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Sport;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact, versioned binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and a format version, followed by a table of every distinct string in the
+ * address book, the persons and the games. Names, phones, emails, addresses, tags and sports are stored as
+ * references into the string table, postal codes and participant references as varints, and person ids as two longs.
+ * Persons and games read from the file are validated the same way as those read from a JSON file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The bytes every binary address book file starts with. Never the start of a JSON file. */
+    public static final byte[] MAGIC = {(byte) 0x89, 'S', 'A', 'B'};
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_INVALID_REFERENCE = "Invalid reference in binary address book: %d";
+
+    private static final int POSTAL_CODE_LENGTH = 6;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int backupGenerations;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath} that keeps
+     * {@code backupGenerations} backups of the data file, rotated on every save.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupGenerations) {
+        this.filePath = filePath;
+        this.backupGenerations = backupGenerations;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@link #MAGIC}.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            AddressBook addressBook = new Reader(in, Files.size(filePath)).read();
+            JsonAddressBookStorage.removeGamesWithInvalidParticipants(addressBook);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, backupGenerations, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            new Writer(dataOut).write(addressBook);
+            dataOut.flush();
+        });
+    }
+
+    /**
+     * Writes an address book in the binary format.
+     */
+    private static class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(ReadOnlyAddressBook addressBook) throws IOException {
+            List<Person> persons = addressBook.getPersonList();
+            List<Game> games = addressBook.getGameList();
+            Map<PersonId, Integer> personIndexes = new HashMap<>();
+            for (Person person : persons) {
+                personIndexes.put(person.getId(), personIndexes.size());
+                collectStrings(person);
+            }
+            for (Game game : games) {
+                intern(game.getSport().sportName);
+                internPostalCodeIfIrregular(game.getLocation().getPostalCode());
+            }
+
+            out.write(MAGIC);
+            writeVarint(FORMAT_VERSION);
+            writeVarint(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarint(bytes.length);
+                out.write(bytes);
+            }
+
+            writeVarint(persons.size());
+            for (Person person : persons) {
+                writePerson(person);
+            }
+            writeVarint(games.size());
+            for (Game game : games) {
+                writeGame(game, personIndexes);
+            }
+        }
+
+        private void collectStrings(Person person) {
+            intern(person.getName().fullName);
+            intern(person.getPhone().value);
+            intern(person.getEmail().value);
+            intern(person.getAddress().value);
+            internPostalCodeIfIrregular(person.getPostalCode());
+            person.getTags().forEach(tag -> intern(tag.tagName));
+            person.getSports().forEach(sport -> intern(sport.sportName));
+        }
+
+        private void intern(String string) {
+            stringIndexes.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+
+        private void internPostalCodeIfIrregular(String postalCode) {
+            if (!isRegularPostalCode(postalCode)) {
+                intern(postalCode);
+            }
+        }
+
+        private void writePerson(Person person) throws IOException {
+            UUID id = UUID.fromString(person.getId().value);
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeString(person.getAddress().value);
+            writePostalCode(person.getPostalCode());
+            writeVarint(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeString(tag.tagName);
+            }
+            writeVarint(person.getSports().size());
+            for (Sport sport : person.getSports()) {
+                writeString(sport.sportName);
+            }
+        }
+
+        /**
+         * Writes {@code game}. Each participant is written as one more than its index in the persons, or as zero
+         * followed by its id if it is not one of the persons.
+         */
+        private void writeGame(Game game, Map<PersonId, Integer> personIndexes) throws IOException {
+            writeString(game.getSport().sportName);
+            LocalDateTime dateTime = game.getDateTime();
+            writeVarlong(zigZag(dateTime.toEpochSecond(ZoneOffset.UTC)));
+            writeVarint(dateTime.getNano());
+            writePostalCode(game.getLocation().getPostalCode());
+            writeVarint(game.getParticipantIds().size());
+            for (PersonId participantId : game.getParticipantIds()) {
+                Integer personIndex = personIndexes.get(participantId);
+                if (personIndex != null) {
+                    writeVarint(personIndex + 1);
+                    continue;
+                }
+                UUID id = UUID.fromString(participantId.value);
+                writeVarint(0);
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            writeVarint(stringIndexes.get(string));
+        }
+
+        /**
+         * Writes a six-digit postal code as one more than its value, and any other postal code as zero followed by a
+         * reference into the string table.
+         */
+        private void writePostalCode(String postalCode) throws IOException {
+            if (isRegularPostalCode(postalCode)) {
+                writeVarint(Integer.parseInt(postalCode) + 1);
+            } else {
+                writeVarint(0);
+                writeString(postalCode);
+            }
+        }
+
+        private void writeVarint(int value) throws IOException {
+            writeVarlong(Integer.toUnsignedLong(value));
+        }
+
+        private void writeVarlong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format.
+     * Every count read is checked against the bytes left in the file, so that a corrupt count is reported as an
+     * {@code IOException} rather than allocating more than the file could hold.
+     */
+    private static class Reader {
+        private final CountingInputStream counter;
+        private final DataInputStream in;
+        private final long length;
+        private String[] strings;
+
+        /**
+         * Creates a {@code Reader} of {@code in}, which holds {@code length} bytes.
+         */
+        Reader(InputStream in, long length) {
+            this.counter = new CountingInputStream(in);
+            this.in = new DataInputStream(counter);
+            this.length = length;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = readVarint();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            AddressBookLoader loader = new AddressBookLoader();
+            List<String> personIds = new ArrayList<>();
+            int personCount = readCount();
+            for (int i = 0; i < personCount; i++) {
+                String id = new UUID(in.readLong(), in.readLong()).toString();
+                loader.addPerson(readPerson(id));
+                personIds.add(id);
+            }
+            int gameCount = readCount();
+            for (int i = 0; i < gameCount; i++) {
+                loader.addGame(readGame(personIds));
+            }
+            return loader.load();
+        }
+
+        private JsonAdaptedPerson readPerson(String id) throws IOException {
+            String name = readString();
+            String phone = readString();
+            String email = readString();
+            String address = readString();
+            String postalCode = readPostalCode();
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            int tagCount = readCount();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new JsonAdaptedTag(readString()));
+            }
+            List<String> sports = new ArrayList<>();
+            int sportCount = readCount();
+            for (int i = 0; i < sportCount; i++) {
+                sports.add(readString());
+            }
+            return new JsonAdaptedPerson(id, name, phone, email, address, postalCode, tags, sports);
+        }
+
+        private JsonAdaptedGame readGame(List<String> personIds) throws IOException {
+            String sport = readString();
+            long epochSecond = unZigZag(readVarlong());
+            int nano = readVarint();
+            final String dateTime;
+            try {
+                dateTime = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC).toString();
+            } catch (DateTimeException e) {
+                throw new IOException("Invalid date/time in binary address book", e);
+            }
+            String postalCode = readPostalCode();
+            List<String> participantIds = new ArrayList<>();
+            int participantCount = readCount();
+            for (int i = 0; i < participantCount; i++) {
+                int reference = readVarint();
+                if (reference == 0) {
+                    participantIds.add(new UUID(in.readLong(), in.readLong()).toString());
+                } else if (reference <= personIds.size()) {
+                    participantIds.add(personIds.get(reference - 1));
+                } else {
+                    throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, reference));
+                }
+            }
+            return new JsonAdaptedGame(sport, dateTime, participantIds, null, postalCode);
+        }
+
+        private String readString() throws IOException {
+            int reference = readVarint();
+            if (reference < 0 || reference >= strings.length) {
+                throw new IOException(String.format(MESSAGE_INVALID_REFERENCE, reference));
+            }
+            return strings[reference];
+        }
+
+        private String readPostalCode() throws IOException {
+            int value = readVarint();
+            if (value == 0) {
+                return readString();
+            }
+            return String.format("%0" + POSTAL_CODE_LENGTH + "d", value - 1);
+        }
+
+        /**
+         * Reads a varint that counts entries or bytes to follow, which must not be negative, nor more than the bytes
+         * left in the file, as every entry takes at least one byte.
+         */
+        private int readCount() throws IOException {
+            int count = readVarint();
+            if (count < 0 || count > length - counter.position) {
+                throw new IOException("Invalid count in binary address book: " + count);
+            }
+            return count;
+        }
+
+        private int readVarint() throws IOException {
+            long value = readVarlong();
+            if (value >>> Integer.SIZE != 0) {
+                throw new IOException("Varint too large in binary address book");
+            }
+            return (int) value;
+        }
+
+        private long readVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = in.read();
+                if (b < 0) {
+                    throw new EOFException();
+                }
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint in binary address book");
+        }
+
+        private static long unZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    /**
+     * An {@code InputStream} that counts the bytes read from it.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long position;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                position++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = super.read(bytes, offset, length);
+            if (count > 0) {
+                position += count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            long skipped = super.skip(count);
+            position += skipped;
+            return skipped;
+        }
+    }
+
+    private static boolean isRegularPostalCode(String postalCode) {
+        if (postalCode.length() != POSTAL_CODE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < postalCode.length(); i++) {
+            if (postalCode.charAt(i) < '0' || postalCode.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that reads a data file in either the JSON or the binary format, detecting the format
+ * from the content of the file rather than its name, and saves in the format it was created with.
+ * A data file in the other format is thus converted on the next save.
+ */
+public class FormatDetectingAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FormatDetectingAddressBookStorage.class);
+
+    private final JsonAddressBookStorage jsonStorage;
+    private final BinaryAddressBookStorage binaryStorage;
+    private final AddressBookStorage saveStorage;
+
+    /**
+     * Creates a {@code FormatDetectingAddressBookStorage} for the data file at {@code filePath}, which saves in the
+     * binary format if {@code isBinaryFormat} is true, or in the JSON format otherwise.
+     */
+    public FormatDetectingAddressBookStorage(Path filePath, boolean isBinaryFormat) {
+        this(filePath, isBinaryFormat, 0);
+    }
+
+    /**
+     * Creates a {@code FormatDetectingAddressBookStorage} for the data file at {@code filePath}, which saves in the
+     * binary format if {@code isBinaryFormat} is true, or in the JSON format otherwise, and keeps
+     * {@code backupGenerations} backups of the data file.
+     */
+    public FormatDetectingAddressBookStorage(Path filePath, boolean isBinaryFormat, int backupGenerations) {
+        requireNonNull(filePath);
+        jsonStorage = new JsonAddressBookStorage(filePath, backupGenerations);
+        binaryStorage = new BinaryAddressBookStorage(filePath, backupGenerations);
+        saveStorage = isBinaryFormat ? binaryStorage : jsonStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return saveStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        final boolean isBinaryFile;
+        try {
+            isBinaryFile = BinaryAddressBookStorage.isBinaryFile(filePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        AddressBookStorage readStorage = isBinaryFile ? binaryStorage : jsonStorage;
+        if (readStorage != saveStorage) {
+            logger.info("Data file " + filePath + " will be converted to the "
+                    + (saveStorage == binaryStorage ? "binary" : "JSON") + " format on the next save");
+        }
+        return readStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        saveStorage.saveAddressBook(addressBook, filePath);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Represents an error during loading of the journal of a {@code JournalingAddressBookStorage}, while its snapshot
+ * could be loaded.
+ */
+public class JournalLoadingException extends DataLoadingException {
+    private final Path journalFilePath;
+
+    /**
+     * Creates a {@code JournalLoadingException} for the journal at {@code journalFilePath}.
+     */
+    public JournalLoadingException(Path journalFilePath, Exception cause) {
+        super(cause);
+        this.journalFilePath = journalFilePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ChangedEntries;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes the changes made to the address book to an append-only journal, instead
+ * of rewriting the whole data file on every save.
+ * <p>
+ * The data file of the wrapped storage serves as a snapshot. Each save asks the {@code AddressBook} for the persons
+ * and games changed since the state last persisted, and appends one {@link JsonAdaptedJournalRecord} per changed
+ * person or game to the journal, next to the data file. Once the journal holds more records than the address book
+ * has entries, or at least {@value #DEFAULT_COMPACTION_THRESHOLD} records, it is compacted: the whole address book is
+ * written to the snapshot and the journal is deleted. An address book whose changes are not known, such as one that
+ * is not an {@code AddressBook}, is compacted straight away.
+ * Reading the address book replays the journal on top of the snapshot.
+ * <p>
+ * A journal last modified before the snapshot was left behind by a compaction that did not finish, and is ignored.
+ * A journal that cannot be read or replayed is reported with a {@link JournalLoadingException}, so that it can be told
+ * apart from a snapshot that cannot be read.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    /** The last change of the address book as last persisted, or null if its changes cannot be followed. */
+    private AddressBookChange persistedChange;
+    private int journalSize;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that keeps its snapshot in {@code snapshotStorage} and its
+     * journal next to the data file of {@code snapshotStorage}.
+     */
+    public JournalingAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, getJournalFilePath(snapshotStorage.getAddressBookFilePath()),
+                DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} that keeps its snapshot in {@code snapshotStorage} and its
+     * journal in {@code journalFilePath}, and compacts the journal once it holds more than {@code compactionThreshold}
+     * records and more records than the address book has entries.
+     */
+    JournalingAddressBookStorage(AddressBookStorage snapshotStorage, Path journalFilePath, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journalFilePath);
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = journalFilePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code addressBookFilePath}.
+     */
+    static Path getJournalFilePath(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Path snapshotFilePath = getAddressBookFilePath();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        List<JsonAdaptedJournalRecord> records = isJournalStale(snapshotFilePath)
+                ? new ArrayList<>()
+                : readJournal();
+        if (snapshot.isEmpty() && records.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.orElseGet(AddressBook::new));
+        try {
+            JsonAdaptedJournalRecord.applyAll(records, addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new JournalLoadingException(journalFilePath, ive);
+        }
+        logger.fine("Replayed " + records.size() + " journal records on top of " + snapshotFilePath);
+
+        persistedChange = addressBook.getLastChange();
+        journalSize = records.size();
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            return readAddressBook();
+        }
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        Optional<ChangedEntries> changes = persistedChange != null && addressBook instanceof AddressBook
+                ? ((AddressBook) addressBook).getChangesSince(persistedChange)
+                : Optional.empty();
+        if (changes.isEmpty() || !FileUtil.isFileExists(getAddressBookFilePath())) {
+            compact(addressBook);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = recordChanges(changes.get());
+        int bookSize = ((AddressBook) addressBook).getEntryCount();
+        if (journalSize + records.size() > Math.max(compactionThreshold, bookSize)) {
+            compact(addressBook);
+            return;
+        }
+
+        appendToJournal(records);
+        journalSize += records.size();
+        persistedChange = ((AddressBook) addressBook).getLastChange();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to the snapshot and deletes the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting " + journalFilePath + " into " + getAddressBookFilePath());
+        snapshotStorage.saveAddressBook(addressBook);
+        Files.deleteIfExists(journalFilePath);
+        journalSize = 0;
+        persistedChange = addressBook instanceof AddressBook ? ((AddressBook) addressBook).getLastChange() : null;
+    }
+
+    /**
+     * Returns the records that bring the persisted state up to date with the persons and games changed since, as the
+     * changes left them. Removals come first, so that the persons and games put afterwards never clash with ones that
+     * are gone, and persons are put in the order they were first changed, so that added persons keep their order.
+     */
+    private static List<JsonAdaptedJournalRecord> recordChanges(ChangedEntries changes) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        changes.getRemovedGameDateTimes().forEach(time -> records.add(JsonAdaptedJournalRecord.removeGame(time)));
+        changes.getRemovedPersonIds().forEach(id -> records.add(JsonAdaptedJournalRecord.removePerson(id)));
+        changes.getChangedPersons().forEach(person -> records.add(JsonAdaptedJournalRecord.putPerson(person)));
+        changes.getChangedGames().forEach(game -> records.add(JsonAdaptedJournalRecord.putGame(game)));
+        return records;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel journal = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                journal.write(bytes);
+            }
+            journal.force(false);
+        }
+    }
+
+    private boolean isJournalStale(Path snapshotFilePath) throws JournalLoadingException {
+        if (!Files.exists(journalFilePath) || !Files.exists(snapshotFilePath)) {
+            return false;
+        }
+        try {
+            return Files.getLastModifiedTime(journalFilePath)
+                    .compareTo(Files.getLastModifiedTime(snapshotFilePath)) < 0;
+        } catch (IOException e) {
+            throw new JournalLoadingException(journalFilePath, e);
+        }
+    }
+
+    /**
+     * Returns the records in the journal. An incomplete last record, left behind by a save that did not finish, is
+     * ignored.
+     */
+    private List<JsonAdaptedJournalRecord> readJournal() throws JournalLoadingException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            return records;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new JournalLoadingException(journalFilePath, e);
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last record in journal file " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading record " + (i + 1) + " of journal file " + journalFilePath + ": " + e);
+                throw new JournalLoadingException(journalFilePath, e);
+            }
+        }
+        return records;
+    }
+}
@@ -7,24 +7,32 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.LocationUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Sport;
 
 /**
  * JSON-friendly version of {@link Game}.
+ * Participants are stored as the ids of persons in the address book. Files written before persons had ids embed a
+ * copy of every participant instead; those are still read, and matched to the persons of the address book by name.
  */
 public class JsonAdaptedGame {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Game's %s field is missing!";
+    public static final String MESSAGE_DUPLICATE_PARTICIPANT = "Game's participants contain duplicate person(s).";
 
     private final String sport;
     private final String dateTime;
+    private final List<String> participantIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> participants = new ArrayList<>();
     private final String location;
     /**
@@ -33,10 +41,14 @@ public class JsonAdaptedGame {
     @JsonCreator
     public JsonAdaptedGame(@JsonProperty("sport") String sport,
                            @JsonProperty("dateTime") String dateTime,
+                           @JsonProperty("participantIds") List<String> participantIds,
                            @JsonProperty("participants") List<JsonAdaptedPerson> participants,
                             @JsonProperty("location") String location) {
         this.sport = sport;
         this.dateTime = dateTime;
+        if (participantIds != null) {
+            this.participantIds.addAll(participantIds);
+        }
         if (participants != null) {
             this.participants.addAll(participants);
         }
@@ -49,18 +61,21 @@ public class JsonAdaptedGame {
     public JsonAdaptedGame(Game source) {
         sport = source.getSport().sportName;
         dateTime = source.getDateTime().toString();
-        participants.addAll(source.getParticipants().stream()
-                .map(JsonAdaptedPerson::new)
+        participantIds.addAll(source.getParticipantIds().stream()
+                .map(id -> id.value)
                 .collect(Collectors.toList()));
         location = source.getLocation().getPostalCode();
     }
 
     /**
-     * Converts this JSON-friendly adapted game object into the model's {@code Game} object.
+     * Converts this JSON-friendly adapted game object into the model's {@code Game} object, matching participants
+     * stored in the old format to the persons in {@code addressBook}.
+     * Such participants that are not in {@code addressBook} are given ids that no person has, so that the game fails
+     * {@link AddressBook#validateGameParticipants(Game)}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted game.
      */
-    public Game toModelType() throws IllegalValueException {
+    public Game toModelType(AddressBook addressBook) throws IllegalValueException {
         // Validate and create Sport
         if (sport == null) {
             throw new IllegalValueException(
@@ -92,12 +107,21 @@ public class JsonAdaptedGame {
         }
         final Location modelLocation = LocationUtil.createLocation(location);
 
-        // Convert participants to model types
-        final List<Person> personList = new ArrayList<>();
+        final List<PersonId> modelParticipantIds = new ArrayList<>();
+        for (String participantId : participantIds) {
+            if (!PersonId.isValidId(participantId)) {
+                throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+            }
+            modelParticipantIds.add(new PersonId(participantId));
+        }
         for (JsonAdaptedPerson participant : participants) {
-            personList.add(participant.toModelType());
+            Person storedParticipant = addressBook.getPersonWithSameIdentity(participant.toModelType());
+            modelParticipantIds.add(storedParticipant == null ? PersonId.generate() : storedParticipant.getId());
+        }
+        if (modelParticipantIds.stream().distinct().count() != modelParticipantIds.size()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PARTICIPANT);
         }
 
-        return new Game(modelSport, modelDateTime, modelLocation, personList);
+        return new Game(modelSport, modelDateTime, modelLocation, modelParticipantIds);
     }
 }
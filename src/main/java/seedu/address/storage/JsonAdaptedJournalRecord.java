@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.game.exceptions.DuplicateGameException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * JSON-friendly version of a single change to an {@link AddressBook}, as recorded in the journal of a
+ * {@link JournalingAddressBookStorage}.
+ * <p>
+ * A record either puts a person or game, replacing the person with the same id or the game at the same date/time if
+ * there is one, or removes the person with an id or the game at a date/time. Applying a record is idempotent, so a
+ * journal may safely be replayed on top of a snapshot that already contains some of its records.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has unknown operation: %s";
+    public static final String MESSAGE_CONFLICTING_RECORD = "Journal record conflicts with the address book: %s";
+
+    static final String PUT_PERSON = "putPerson";
+    static final String REMOVE_PERSON = "removePerson";
+    static final String PUT_GAME = "putGame";
+    static final String REMOVE_GAME = "removeGame";
+
+    private final String op;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedGame game;
+    private final String personId;
+    private final String dateTime;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("game") JsonAdaptedGame game,
+                                    @JsonProperty("personId") String personId,
+                                    @JsonProperty("dateTime") String dateTime) {
+        this.op = op;
+        this.person = person;
+        this.game = game;
+        this.personId = personId;
+        this.dateTime = dateTime;
+    }
+
+    /**
+     * Returns a record that puts {@code person} into the address book.
+     */
+    static JsonAdaptedJournalRecord putPerson(Person person) {
+        return new JsonAdaptedJournalRecord(PUT_PERSON, new JsonAdaptedPerson(person), null, null, null);
+    }
+
+    /**
+     * Returns a record that removes the person with the given {@code id} from the address book.
+     */
+    static JsonAdaptedJournalRecord removePerson(PersonId id) {
+        return new JsonAdaptedJournalRecord(REMOVE_PERSON, null, null, id.value, null);
+    }
+
+    /**
+     * Returns a record that puts {@code game} into the address book.
+     */
+    static JsonAdaptedJournalRecord putGame(Game game) {
+        return new JsonAdaptedJournalRecord(PUT_GAME, null, new JsonAdaptedGame(game), null, null);
+    }
+
+    /**
+     * Returns a record that removes the game at {@code gameDateTime} from the address book.
+     */
+    static JsonAdaptedJournalRecord removeGame(LocalDateTime gameDateTime) {
+        return new JsonAdaptedJournalRecord(REMOVE_GAME, null, null, null, gameDateTime.toString());
+    }
+
+    /**
+     * Applies the changes in {@code records} to {@code addressBook}, in order.
+     * Persons put one after another may swap names between them, which clashes if they are put one at a time. A run
+     * of person records that clashes is put in one go instead, with the names checked only at the end of the run.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in a record, or if a change cannot be
+     *     applied to {@code addressBook}.
+     */
+    static void applyAll(List<JsonAdaptedJournalRecord> records, AddressBook addressBook)
+            throws IllegalValueException {
+        int i = 0;
+        while (i < records.size()) {
+            JsonAdaptedJournalRecord record = records.get(i);
+            try {
+                record.applyTo(addressBook);
+                i++;
+            } catch (IllegalValueException ive) {
+                if (!PUT_PERSON.equals(record.op)) {
+                    throw ive;
+                }
+                i = applyPutPersonsTogether(records, i, addressBook);
+            }
+        }
+    }
+
+    /**
+     * Puts the persons of the run of person records starting at {@code start} into {@code addressBook} in one go.
+     *
+     * @return the index of the first record after the run.
+     */
+    private static int applyPutPersonsTogether(List<JsonAdaptedJournalRecord> records, int start,
+            AddressBook addressBook) throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        Map<PersonId, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i).getId(), i);
+        }
+
+        int end = start;
+        while (end < records.size() && PUT_PERSON.equals(records.get(end).op)) {
+            Person person = records.get(end).toModelPerson();
+            Integer position = positions.putIfAbsent(person.getId(), persons.size());
+            if (position == null) {
+                persons.add(person);
+            } else {
+                persons.set(position, person);
+            }
+            end++;
+        }
+
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_RECORD, PUT_PERSON));
+        }
+        return end;
+    }
+
+    /**
+     * Applies the change in this record to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record, or if the change
+     *     cannot be applied to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+        try {
+            switch (op) {
+            case PUT_PERSON:
+                applyPutPerson(addressBook);
+                break;
+            case REMOVE_PERSON:
+                applyRemovePerson(addressBook);
+                break;
+            case PUT_GAME:
+                applyPutGame(addressBook);
+                break;
+            case REMOVE_GAME:
+                applyRemoveGame(addressBook);
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+            }
+        } catch (DuplicatePersonException | DuplicateGameException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_RECORD, op));
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_RECORD, op));
+        }
+        return person.toModelType();
+    }
+
+    private void applyPutPerson(AddressBook addressBook) throws IllegalValueException {
+        Person modelPerson = toModelPerson();
+        Person existingPerson = addressBook.getPersonById(modelPerson.getId());
+        if (existingPerson != null) {
+            addressBook.setPerson(existingPerson, modelPerson);
+        } else {
+            addressBook.addPerson(modelPerson);
+        }
+    }
+
+    private void applyRemovePerson(AddressBook addressBook) throws IllegalValueException {
+        if (personId == null || !PersonId.isValidId(personId)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        Person existingPerson = addressBook.getPersonById(new PersonId(personId));
+        if (existingPerson != null) {
+            addressBook.removePerson(existingPerson);
+        }
+    }
+
+    private void applyPutGame(AddressBook addressBook) throws IllegalValueException {
+        if (game == null) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_RECORD, op));
+        }
+        Game modelGame = game.toModelType(addressBook);
+        List<Game> existingGames = addressBook.getGamesBetween(modelGame.getDateTime(), modelGame.getDateTime());
+        if (!existingGames.isEmpty()) {
+            addressBook.setGame(existingGames.get(0), modelGame);
+        } else {
+            addressBook.addGame(modelGame);
+        }
+    }
+
+    private void applyRemoveGame(AddressBook addressBook) throws IllegalValueException {
+        if (dateTime == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedGame.MISSING_FIELD_MESSAGE_FORMAT, "dateTime"));
+        }
+        final LocalDateTime modelDateTime;
+        try {
+            modelDateTime = LocalDateTime.parse(dateTime);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException("Invalid date/time format: " + dateTime);
+        }
+        for (Game existingGame : addressBook.getGamesBetween(modelDateTime, modelDateTime)) {
+            addressBook.removeGame(existingGame);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Sport;
 import seedu.address.model.tag.Tag;
@@ -26,6 +27,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
@@ -37,15 +39,18 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Files written before persons had ids have no {@code id}, in which case a fresh id is generated on conversion.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") String id,
+                             @JsonProperty("name") String name,
                              @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("postalCode") String postalCode,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("sports") List<String> sports) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -59,10 +64,19 @@ class JsonAdaptedPerson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without an id with the given person details.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String postalCode,
+                             List<JsonAdaptedTag> tags, List<String> sports) {
+        this(null, name, phone, email, address, postalCode, tags, sports);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -141,7 +155,17 @@ class JsonAdaptedPerson {
         }
         final String modelPostalCode = postalCode;
 
+        final PersonId modelId;
+        if (id == null) {
+            modelId = PersonId.generate();
+        } else if (!PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        } else {
+            modelId = new PersonId(id);
+        }
+
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelPostalCode, modelTags, personSports);
+        return new Person(modelId, modelName, modelPhone, modelEmail, modelAddress, modelPostalCode, modelTags,
+                personSports);
     }
 }
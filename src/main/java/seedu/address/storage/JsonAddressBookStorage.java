@@ -3,10 +3,15 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -18,15 +23,27 @@ import seedu.address.model.game.Game;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person or game at a time, so neither the whole file nor the JSON-friendly
+ * versions of all persons and games are held in memory at once.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private final Path filePath;
+    private final int backupGenerations;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the data file at {@code filePath} that keeps
+     * {@code backupGenerations} backups of the data file, rotated on every save.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupGenerations) {
         this.filePath = filePath;
+        this.backupGenerations = backupGenerations;
     }
 
     public Path getAddressBookFilePath() {
@@ -47,31 +64,38 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            AddressBook addressBook = jsonAddressBook.get().toModelType();
-            // Validate all games have existing participants
-            for (Game game : addressBook.getGameList()) {
-                try {
-                    addressBook.validateGameParticipants(game);
-                } catch (IllegalValueException ive) {
-                    logger.warning("Game with invalid participants found: " + ive.getMessage());
-                    // Remove the game with invalid participants
-                    addressBook.removeGame(game);
-                }
-            }
+        try (JsonParser parser = JsonUtil.createJsonParser(Files.newInputStream(filePath))) {
+            AddressBook addressBook = JsonSerializableAddressBook.readFrom(parser);
+            removeGamesWithInvalidParticipants(addressBook);
             return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Removes the games in {@code addressBook} with participants that are not in {@code addressBook}.
+     */
+    static void removeGamesWithInvalidParticipants(AddressBook addressBook) {
+        for (Game game : new ArrayList<>(addressBook.getGameList())) {
+            try {
+                addressBook.validateGameParticipants(game);
+            } catch (IllegalValueException ive) {
+                logger.warning("Game with invalid participants found: " + ive.getMessage());
+                addressBook.removeGame(game);
+            }
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -86,7 +110,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, backupGenerations, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                JsonSerializableAddressBook.writeTo(addressBook, generator);
+            }
+        });
     }
 }
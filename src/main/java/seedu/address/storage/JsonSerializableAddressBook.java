@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -22,8 +27,12 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate person id(s).";
     public static final String MESSAGE_DUPLICATE_GAME = "Game list contains duplicate game(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+    private static final String GAMES_FIELD = "games";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedGame> games = new ArrayList<>();
 
@@ -57,22 +66,75 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        AddressBookLoader loader = new AddressBookLoader();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            loader.addPerson(jsonAdaptedPerson);
         }
-
         for (JsonAdaptedGame jsonAdaptedGame : games) {
-            Game game = jsonAdaptedGame.toModelType();
-            if (addressBook.hasGame(game)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_GAME);
+            loader.addGame(jsonAdaptedGame);
+        }
+        return loader.load();
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one person or game at a time,
+     * without holding the JSON-friendly versions of all of them at once.
+     */
+    static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(GAMES_FIELD);
+        for (Game game : source.getGameList()) {
+            generator.writeObject(new JsonAdaptedGame(game));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, handing each person or game to an
+     * {@link AddressBookLoader} as soon as it is parsed.
+     *
+     * @throws IOException if the content of {@code parser} is not an address book in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader();
+
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+            case PERSONS_FIELD:
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    loader.addPerson(parser.readValueAs(JsonAdaptedPerson.class));
+                }
+                break;
+            case GAMES_FIELD:
+                expectToken(parser, valueToken, JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    loader.addGame(parser.readValueAs(JsonAdaptedGame.class));
+                }
+                break;
+            default:
+                parser.skipChildren();
             }
-            addressBook.addGame(game);
         }
-        return addressBook;
+        return loader.load();
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
     }
 }
@@ -2,12 +2,16 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
+
 /**
  * An UI component that displays information of a {@code Game}.
  * The displayed index corresponds to the game's position in the date/time sorted list.
@@ -37,11 +41,11 @@ public class GameCard extends UiPart<Region> {
 
 
     /**
-     * Creates a {@code GameCard} with the given {@code Game} and index to display.
+     * Creates a {@code GameCard} with the given {@code Game}, its participants and index to display.
      * The displayedIndex corresponds to the game's position in the date/time sorted list,
      * ensuring consistency between UI display and command references.
      */
-    public GameCard(Game game, int displayedIndex) {
+    public GameCard(Game game, List<Person> gameParticipants, int displayedIndex) {
         super(FXML);
         requireNonNull(game);
         this.game = game;
@@ -49,7 +53,7 @@ public class GameCard extends UiPart<Region> {
         gameName.setText(game.getSport().toString());
 
 
-        game.getParticipants().forEach(p -> {
+        gameParticipants.forEach(p -> {
             Label participantLabel = new Label(p.getName().fullName);
 
             participantLabel.getStyleClass().add("label");
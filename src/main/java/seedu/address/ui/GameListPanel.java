@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +11,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of games.
@@ -22,16 +25,28 @@ public class GameListPanel extends UiPart<Region> {
     @FXML
     private ListView<Game> gameListView;
 
+    private final Function<Game, List<Person>> participantResolver;
+
     /**
      * Creates a {@code GameListPanel} with the given {@code ObservableList}.
      * The list is expected to be sorted by date/time from the Model.
+     * Games refer to their participants by id, so the participants of each game are looked up with
+     * {@code participantResolver}, and {@link #refresh()} must be called whenever the persons change.
      */
-    public GameListPanel(ObservableList<Game> gameList) {
+    public GameListPanel(ObservableList<Game> gameList, Function<Game, List<Person>> participantResolver) {
         super(FXML);
+        this.participantResolver = participantResolver;
         gameListView.setItems(gameList);
         gameListView.setCellFactory(listView -> new GameListViewCell());
     }
 
+    /**
+     * Redraws the games, looking up their participants again.
+     */
+    public void refresh() {
+        gameListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Game} using a {@code GameCard}.
      * The index displayed is based on the game's position in the date/time sorted list.
@@ -46,7 +61,7 @@ public class GameListPanel extends UiPart<Region> {
                 setText(null);
             } else {
 
-                setGraphic(new GameCard(game, getIndex() + 1).getRoot());
+                setGraphic(new GameCard(game, participantResolver.apply(game), getIndex() + 1).getRoot());
             }
         }
     }
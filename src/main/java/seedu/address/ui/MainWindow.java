@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -19,8 +21,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -43,6 +43,7 @@ public class MainWindow extends UiPart<Stage> {
     private GameListPanel gameListPanel;
     private ResultDisplay resultDisplay;
     private SportsListPanel sportsListPanel;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -138,11 +139,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
+        // Commands run in the background, so the lists shown must only be updated on the JavaFX application thread
+        logic.setListUpdateExecutor(Platform::runLater);
+
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         // Updated: use GameListPanel and getFilteredGameList() instead of group-related methods.
-        gameListPanel = new GameListPanel(logic.getFilteredGameList());
+        gameListPanel = new GameListPanel(logic.getFilteredGameList(), logic::getGameParticipants);
         gameListPanelPlaceholder.getChildren().add(gameListPanel.getRoot());
 
         // Add sports list panel
@@ -152,8 +156,12 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setSaveStatusListener(status -> Platform.runLater(() -> {
+            statusBarFooter.setSaveStatus(status);
+            statusBarFooter.setUnsavedChanges(hasUnsavedChanges());
+        }));
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -258,19 +266,32 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    private boolean hasUnsavedChanges() {
+        return logic.getAddressBookVersion() != logic.getLastSavedAddressBookVersion();
+    }
+
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background, and returns the result, which completes on the JavaFX
+     * application thread after the window has been updated with it.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        resultDisplay.setCommandRunning(commandText);
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(cause.getMessage());
+                return;
+            }
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            // Update the sports list panel after command execution to reflect any changes
+            // Update the sports list panel and the participants of games after command execution to reflect any changes
             sportsListPanel.updateSportsList();
+            gameListPanel.refresh();
+            statusBarFooter.setUnsavedChanges(hasUnsavedChanges());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -279,12 +300,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        }, Platform::runLater);
     }
 }
@@ -25,4 +25,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows that {@code commandText} is running, until its feedback is set.
+     */
+    public void setCommandRunning(String commandText) {
+        requireNonNull(commandText);
+        resultDisplay.setText("Running: " + commandText + "...");
+    }
+
 }
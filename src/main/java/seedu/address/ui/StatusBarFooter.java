@@ -2,9 +2,11 @@ package seedu.address.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.Region;
 
 /**
@@ -13,10 +15,19 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String STATUS_SAVED = "Saved";
+    private static final String STATUS_SAVE_FAILED = "Save failed";
+    private static final String STATUS_UNSAVED_CHANGES = "Unsaved changes";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label syncStatus;
+
+    private Optional<String> saveErrorMessage = Optional.empty();
+    private boolean hasUnsavedChanges;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +36,29 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the outcome of the last save, given the error message if it failed.
+     */
+    public void setSaveStatus(Optional<String> errorMessage) {
+        saveErrorMessage = errorMessage;
+        showSaveStatus();
+    }
+
+    /**
+     * Shows whether the address book has changes that are not saved yet.
+     */
+    public void setUnsavedChanges(boolean hasUnsavedChanges) {
+        this.hasUnsavedChanges = hasUnsavedChanges;
+        showSaveStatus();
+    }
+
+    private void showSaveStatus() {
+        if (saveErrorMessage.isPresent()) {
+            syncStatus.setText(STATUS_SAVE_FAILED);
+        } else {
+            syncStatus.setText(hasUnsavedChanges ? STATUS_UNSAVED_CHANGES : STATUS_SAVED);
+        }
+        syncStatus.setTooltip(saveErrorMessage.map(Tooltip::new).orElse(null));
+    }
+
 }
@@ -0,0 +1,69 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournalingAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class AppInitializerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private JournalingAddressBookStorage addressBookStorage;
+    private Storage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataFilePath = testFolder.resolve("addressbook.json");
+        addressBookStorage = new JournalingAddressBookStorage(new JsonAddressBookStorage(dataFilePath));
+        storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json")));
+        addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void initModelManager_journalCannotBeReplayed_keepsDataFileAndMovesJournalAside() throws Exception {
+        Path journalFilePath = addressBookStorage.getJournalFilePath();
+        Files.writeString(journalFilePath, "{\"op\":\"unknown\"}\n", StandardCharsets.UTF_8);
+        String dataFile = Files.readString(dataFilePath);
+
+        Model model = AppInitializer.initModelManager(storage, new UserPrefs());
+
+        assertEquals(addressBook, model.getAddressBook());
+        assertEquals(dataFile, Files.readString(dataFilePath));
+        assertFalse(Files.exists(journalFilePath));
+        assertTrue(Files.exists(journalFilePath.resolveSibling("addressbook.journal.corrupt")));
+    }
+
+    @Test
+    public void initModelManager_dataFileCannotBeRead_movesDataFileAside() throws Exception {
+        Files.writeString(dataFilePath, "not json", StandardCharsets.UTF_8);
+
+        AppInitializer.initModelManager(storage, new UserPrefs());
+
+        assertEquals("not json", Files.readString(testFolder.resolve("addressbook.json.corrupt")));
+    }
+}
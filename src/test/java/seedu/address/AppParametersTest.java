@@ -39,10 +39,45 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_rawScriptArguments_batchMode() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchMode(true);
+        expected.setScriptPath(Paths.get("season.txt"));
+        expected.setSaveInterval(500);
+        assertEquals(expected, AppParameters.parse(
+                List.of("--config=config.json", "--script=season.txt", "--save-every=500", "unnamed")));
+    }
+
+    @Test
+    public void parse_rawStandardInputScript_batchModeWithoutScriptPath() {
+        expected.setBatchMode(true);
+        assertEquals(expected, AppParameters.parse(List.of("--script=-", "--save-every=often")));
+    }
+
+    @Test
+    public void parse_rawServePort_serverMode() {
+        expected.setServerMode(true);
+        expected.setServerPort(8080);
+        assertEquals(expected, AppParameters.parse(List.of("--serve=8080")));
+    }
+
+    @Test
+    public void parse_rawInvalidServePort_guiMode() {
+        assertEquals(expected, AppParameters.parse(List.of("--serve=65536")));
+        assertEquals(expected, AppParameters.parse(List.of("--serve=http")));
+    }
+
+    @Test
+    public void parse_noRawArguments_guiMode() {
+        assertEquals(expected, AppParameters.parse(List.of()));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", isBatchMode=false, scriptPath=null, saveInterval=0, isServerMode=false, serverPort=0}";
         assertEquals(expected, appParameters.toString());
     }
 
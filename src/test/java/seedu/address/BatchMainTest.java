@@ -0,0 +1,90 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.POSTAL_CODE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SPORTS_DESC_BADMINTON;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Sport;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchMainTest {
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POSTAL_CODE_DESC_AMY + SPORTS_DESC_BADMINTON;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private JsonAddressBookStorage addressBookStorage;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Sport.loadDefaultSports();
+    }
+
+    private String run(BatchMain batchMain, boolean expectedSuccess, String... lines) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BufferedReader script = new BufferedReader(new StringReader(String.join("\n", lines)));
+        try (PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8)) {
+            assertEquals(expectedSuccess, batchMain.run(script, out));
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void run_validScript_savesOnceAtEnd() throws Exception {
+        BatchMain batchMain = new BatchMain(new LogicManager(model, storage, 0));
+
+        String output = run(batchMain, true, "# adds Amy", "", ADD_AMY_COMMAND, "  " + ListCommand.COMMAND_WORD);
+
+        assertTrue(output.contains("> " + ADD_AMY_COMMAND));
+        assertTrue(output.contains(ListCommand.MESSAGE_SUCCESS));
+        assertTrue(output.contains("Ran 2 commands (0 failed)"));
+        assertTrue(output.contains("saved the address book 1 times"));
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void run_failingCommandAndExit_reportsFailureAndStopsAtExit() throws Exception {
+        BatchMain batchMain = new BatchMain(new LogicManager(model, storage, 1));
+
+        String output = run(batchMain, false, "unknowncommand", ADD_AMY_COMMAND, ExitCommand.COMMAND_WORD,
+                ListCommand.COMMAND_WORD);
+
+        assertTrue(output.contains(String.format(BatchMain.MESSAGE_COMMAND_FAILED, MESSAGE_UNKNOWN_COMMAND)));
+        assertFalse(output.contains("> " + ListCommand.COMMAND_WORD));
+        assertTrue(output.contains("Ran 3 commands (1 failed)"));
+        assertTrue(output.contains("saved the address book 1 times"));
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+}
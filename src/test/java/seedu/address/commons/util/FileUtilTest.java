@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
 
@@ -20,4 +32,50 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_createsFile() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("dir").resolve("data.json");
+
+        FileUtil.writeToFile(file, "content");
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file.getFileName()), listFileNames(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_backupGenerations_rotatesBackups() throws Exception {
+        Path file = testFolder.resolve("data.json");
+
+        for (int i = 1; i <= 4; i++) {
+            String content = "version " + i;
+            FileUtil.writeAtomically(file, 2, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+        assertEquals(List.of(FileUtil.getBackupFilePath(file, 1), FileUtil.getBackupFilePath(file, 2)),
+                FileUtil.getExistingBackupFilePaths(file, 5));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_leavesFileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, 1, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(List.of(file.getFileName()), listFileNames(testFolder));
+    }
+
+    private static List<Path> listFileNames(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(Path::getFileName).toList();
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Location;
+
+public class LocationCacheTest {
+
+    private final List<String> loadedPostalCodes = new ArrayList<>();
+
+    private final Function<String, Location> loader = postalCode -> {
+        loadedPostalCodes.add(postalCode);
+        return new Location(postalCode, new Address("1 PLACE " + postalCode), 1.3, 103.8);
+    };
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LocationCache(0));
+    }
+
+    @Test
+    public void get_samePostalCode_loadsOnceAndCountsHits() {
+        LocationCache cache = new LocationCache(10);
+
+        Location first = cache.get("018906", loader);
+        Location second = cache.get("018906", loader);
+        cache.get("402001", loader);
+
+        assertSame(first, second);
+        assertEquals(List.of("018906", "402001"), loadedPostalCodes);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_beyondCapacity_evictsLeastRecentlyUsed() {
+        LocationCache cache = new LocationCache(2);
+        Location first = cache.get("018906", loader);
+        Location second = cache.get("402001", loader);
+        cache.get("018906", loader);
+
+        cache.get("579543", loader);
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get("018906", loader));
+        assertNotSame(second, cache.get("402001", loader));
+        assertEquals(List.of("018906", "402001", "579543", "402001"), loadedPostalCodes);
+    }
+
+    @Test
+    public void get_concurrentThreads_loadsEachPostalCodeAtMostOncePerThread() throws Exception {
+        LocationCache cache = new LocationCache(LocationCache.DEFAULT_CAPACITY);
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<String, Location> countingLoader = postalCode -> {
+            loadCount.incrementAndGet();
+            return new Location(postalCode, new Address("1 PLACE " + postalCode), 1.3, 103.8);
+        };
+        int threadCount = 4;
+        int postalCodeCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> lookups = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            lookups.add(executor.submit(() -> {
+                for (int i = 0; i < postalCodeCount * 10; i++) {
+                    cache.get(String.format("%06d", i % postalCodeCount), countingLoader);
+                }
+            }));
+        }
+        for (Future<?> lookup : lookups) {
+            lookup.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(postalCodeCount, cache.size());
+        assertEquals(threadCount * postalCodeCount * 10, cache.getHitCount() + cache.getMissCount());
+        assertTrue(loadCount.get() >= postalCodeCount && loadCount.get() <= threadCount * postalCodeCount);
+    }
+
+    @Test
+    public void get_manyBeyondCapacity_staysWithinCapacity() {
+        LocationCache cache = new LocationCache(32);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(String.format("%06d", i), loader);
+        }
+        assertTrue(cache.size() <= 32);
+        assertSame(cache.get("000999", loader), cache.get("000999", loader));
+    }
+
+    @Test
+    public void get_loaderThrows_nothingCached() {
+        LocationCache cache = new LocationCache(10);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("999999", postalCode -> {
+            throw new IllegalArgumentException("Postal code not found: " + postalCode);
+        }));
+
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void clear_cachedLocations_emptiesCacheAndResetsCounts() {
+        LocationCache cache = new LocationCache(10);
+        cache.get("018906", loader);
+        cache.get("018906", loader);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+}
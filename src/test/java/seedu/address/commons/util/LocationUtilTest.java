@@ -1,7 +1,9 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -155,4 +157,31 @@ public class LocationUtilTest {
         assertTrue(location1.getLatitude() == location2.getLatitude());
         assertTrue(location1.getLongitude() == location2.getLongitude());
     }
+
+    @Test
+    public void createLocation_samePostalCode_sharesCachedLocation() {
+        long hitCount = LocationUtil.getLocationCache().getHitCount();
+        Location location1 = LocationUtil.createLocation(VALID_POSTAL_CODE);
+        Location location2 = LocationUtil.createLocation(VALID_POSTAL_CODE);
+
+        assertSame(location1, location2);
+        assertTrue(LocationUtil.getLocationCache().getHitCount() > hitCount);
+    }
+
+    @Test
+    public void createLocation_differentAddressSamePostalCode_sharesCoordinates() {
+        Location location1 = LocationUtil.createLocation(VALID_ADDRESS, VALID_POSTAL_CODE);
+        Location location2 = LocationUtil.createLocation(ANOTHER_VALID_ADDRESS, VALID_POSTAL_CODE);
+
+        assertSame(location1.getCoordinates(), location2.getCoordinates());
+        assertEquals(VALID_ADDRESS, location1.getAddress());
+        assertEquals(ANOTHER_VALID_ADDRESS, location2.getAddress());
+    }
+
+    @Test
+    public void createLocation_listedAddress_returnsCachedLocation() {
+        Location cached = LocationUtil.createLocation(VALID_POSTAL_CODE);
+
+        assertSame(cached, LocationUtil.createLocation(cached.getAddress(), VALID_POSTAL_CODE));
+    }
 }
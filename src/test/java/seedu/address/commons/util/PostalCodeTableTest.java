@@ -0,0 +1,143 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PostalCodeTableTest {
+
+    private static PostalCodeTable read(String json) throws IOException {
+        return PostalCodeTable.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String entry(String postalCode, String address, double latitude, double longitude) {
+        return "\"" + postalCode + "\": {\"address\": \"" + address + "\", \"latitude\": " + latitude
+                + ", \"longitude\": " + longitude + "}";
+    }
+
+    @Test
+    public void read_unsortedEntries_looksUpEachPostalCode() throws Exception {
+        PostalCodeTable table = read("{" + entry("579543", "3 PLACE", 1.35, 103.84) + ", "
+                + entry("018906", "1 PLACE", 1.281, 103.852) + ", "
+                + entry("402001", "2 PLACE", 1.33, 103.9) + "}");
+
+        assertEquals(3, table.size());
+        int index = table.indexOf("018906");
+        assertEquals(1.281, table.getLatitude(index));
+        assertEquals(103.852, table.getLongitude(index));
+        assertEquals("1 PLACE", table.getAddress(index));
+        assertEquals("3 PLACE", table.getAddress(table.indexOf("579543")));
+        assertEquals("2 PLACE", table.getAddress(table.indexOf("402001")));
+    }
+
+    @Test
+    public void indexOf_unknownOrMalformedPostalCode_returnsMinusOne() throws Exception {
+        PostalCodeTable table = read("{" + entry("018906", "1 PLACE", 1.281, 103.852) + "}");
+
+        assertEquals(-1, table.indexOf("018907"));
+        assertEquals(-1, table.indexOf("18906"));
+        assertEquals(-1, table.indexOf("0189060"));
+        assertEquals(-1, table.indexOf("01890A"));
+        assertEquals(-1, table.indexOf(""));
+    }
+
+    @Test
+    public void read_repeatedPostalCode_keepsLastEntry() throws Exception {
+        PostalCodeTable table = read("{" + entry("018906", "OLD PLACE", 1.0, 103.0) + ", "
+                + entry("018906", "NEW PLACE", 1.281, 103.852) + "}");
+
+        assertEquals(1, table.size());
+        assertEquals("NEW PLACE", table.getAddress(table.indexOf("018906")));
+        assertEquals(1.281, table.getLatitude(table.indexOf("018906")));
+    }
+
+    @Test
+    public void read_sharedAddress_storedOnce() throws Exception {
+        PostalCodeTable table = read("{" + entry("018906", "SAME PLACE", 1.281, 103.852) + ", "
+                + entry("018907", "SAME PLACE", 1.282, 103.853) + "}");
+
+        assertEquals(1, table.getAddressCount());
+        assertEquals("SAME PLACE", table.getAddress(table.indexOf("018907")));
+    }
+
+    @Test
+    public void readBinary_writtenTable_sameLookups(@TempDir Path tempDir) throws Exception {
+        PostalCodeTable table = read("{" + entry("579543", "3 PLACE", 1.35, 103.84) + ", "
+                + entry("018906", "1 PLACE \u00e9", 1.281, 103.852) + ", "
+                + entry("402001", "3 PLACE", 1.33, 103.9) + "}");
+        Path binaryFile = tempDir.resolve("postal_code_data.bin");
+        try (OutputStream out = Files.newOutputStream(binaryFile)) {
+            table.writeBinary(out);
+        }
+
+        PostalCodeTable readBack = PostalCodeTable.readBinary(binaryFile.toUri().toURL());
+
+        assertEquals(table.size(), readBack.size());
+        assertEquals(table.getAddressCount(), readBack.getAddressCount());
+        for (String postalCode : new String[] {"018906", "402001", "579543"}) {
+            int index = readBack.indexOf(postalCode);
+            assertEquals(table.indexOf(postalCode), index);
+            assertEquals(table.getAddress(index), readBack.getAddress(index));
+            assertEquals(table.getLatitude(index), readBack.getLatitude(index));
+            assertEquals(table.getLongitude(index), readBack.getLongitude(index));
+        }
+        assertEquals("1 PLACE \u00e9", readBack.getAddress(readBack.indexOf("018906")));
+        assertEquals(-1, readBack.indexOf("018907"));
+    }
+
+    @Test
+    public void readBinary_truncatedTable_throwsIoException(@TempDir Path tempDir) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        read("{" + entry("018906", "1 PLACE", 1.281, 103.852) + "}").writeBinary(out);
+        byte[] bytes = out.toByteArray();
+        Path binaryFile = tempDir.resolve("postal_code_data.bin");
+        Files.write(binaryFile, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IOException.class, () -> PostalCodeTable.readBinary(binaryFile.toUri().toURL()));
+    }
+
+    @Test
+    public void readBinary_jsonFile_throwsIoException(@TempDir Path tempDir) throws Exception {
+        Path jsonFile = tempDir.resolve("postal_code_data.json");
+        Files.writeString(jsonFile, "{" + entry("018906", "1 PLACE", 1.281, 103.852) + "}");
+
+        assertThrows(IOException.class, () -> PostalCodeTable.readBinary(jsonFile.toUri().toURL()));
+    }
+
+    @Test
+    public void read_malformedPostalCodeAndUnknownField_skipped() throws Exception {
+        PostalCodeTable table = read("{\"ABC123\": {\"address\": \"X\", \"latitude\": 1, \"longitude\": 2}, "
+                + "\"018906\": {\"address\": \"1 PLACE\", \"blk\": {\"no\": 1}, \"latitude\": 1.281,"
+                + " \"longitude\": 103.852}}");
+
+        assertEquals(1, table.size());
+        assertEquals("1 PLACE", table.getAddress(table.indexOf("018906")));
+    }
+
+    @Test
+    public void read_missingAddress_throwsIoException() {
+        assertThrows(IOException.class, () -> read("{\"018906\": {\"latitude\": 1.281, \"longitude\": 103.852}}"));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+    }
+
+    @Test
+    public void formatPostalCode_leadingZeros_padded() {
+        assertEquals("018906", PostalCodeTable.formatPostalCode(PostalCodeTable.parsePostalCode("018906")));
+        assertEquals("000000", PostalCodeTable.formatPostalCode(0));
+    }
+}
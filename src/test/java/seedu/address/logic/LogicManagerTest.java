@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -17,12 +18,21 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -31,17 +41,23 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.game.Game;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Sport;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.GameBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
 
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + POSTAL_CODE_DESC_AMY + SPORTS_DESC_BADMINTON;
+
     @TempDir
     public Path temporaryFolder;
 
@@ -88,11 +104,181 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsNotChangingAddressBook_savedOnlyOnce() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        assertEquals(logic.getAddressBookVersion(), logic.getLastSavedAddressBookVersion());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + POSTAL_CODE_DESC_AMY + SPORTS_DESC_BADMINTON);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+        assertEquals(logic.getAddressBookVersion(), logic.getLastSavedAddressBookVersion());
+    }
+
+    @Test
+    public void execute_saveInterval_savesAfterIntervalOfChangingCommands() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), 2);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + POSTAL_CODE_DESC_AMY + SPORTS_DESC_BADMINTON);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, saveCount[0]);
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+        assertEquals(logic.getAddressBookVersion(), logic.getLastSavedAddressBookVersion());
+
+        // Nothing has changed since the last save
+        logic.saveUnsavedChanges();
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + POSTAL_CODE_DESC_AMY + SPORTS_DESC_BADMINTON);
+        assertEquals(1, saveCount[0]);
+        logic.saveUnsavedChanges();
+        assertEquals(2, saveCount[0]);
+        assertEquals(logic.getAddressBookVersion(), logic.getLastSavedAddressBookVersion());
+    }
+
+    @Test
+    public void execute_periodicSaveFails_commandSucceedsWithSaveError() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        LogicManager logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), 1);
+        String expectedError = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+
+        CommandResult result = logic.execute(ADD_AMY_COMMAND);
+
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertTrue(result.getFeedbackToUser().endsWith("\n" + expectedError));
+        assertTrue(logic.getAddressBookVersion() != logic.getLastSavedAddressBookVersion());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_reportsFailureToListenerAndNextCommand() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0, 0);
+        logic = new LogicManager(model, storage, saver);
+        CountDownLatch saved = new CountDownLatch(1);
+        AtomicReference<Optional<String>> saveStatus = new AtomicReference<>();
+        logic.setSaveStatusListener(status -> {
+            saveStatus.set(status);
+            saved.countDown();
+        });
+        String expectedError = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertTrue(saved.await(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of(expectedError), saveStatus.get());
+        assertEquals(ListCommand.MESSAGE_SUCCESS + "\n" + expectedError,
+                logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void executeAsync_backToBackCommands_runInSubmittedOrder() throws Exception {
+        CompletableFuture<CommandResult> addAmy = logic.executeAsync(ADD_AMY_COMMAND);
+        CompletableFuture<CommandResult> addAmyAgain = logic.executeAsync(ADD_AMY_COMMAND);
+        CompletableFuture<CommandResult> clear = logic.executeAsync(ClearCommand.COMMAND_WORD);
+
+        assertEquals(ClearCommand.MESSAGE_SUCCESS, clear.get(5, TimeUnit.SECONDS).getFeedbackToUser());
+        assertTrue(addAmy.isDone() && !addAmy.isCompletedExceptionally());
+        // Amy had already been added, and had not been cleared yet
+        assertTrue(getFailure(addAmyAgain) instanceof CommandException);
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() throws Exception {
+        Throwable failure = getFailure(logic.executeAsync("uicfhmowqewca"));
+
+        assertTrue(failure instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failure.getMessage());
+    }
+
+    @Test
+    public void executeAsync_afterShutdown_completesWithRejectedExecutionException() throws Exception {
+        logic.executeAsync(ListCommand.COMMAND_WORD);
+        logic.shutdown();
+
+        assertTrue(getFailure(logic.executeAsync(ListCommand.COMMAND_WORD)) instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void setListUpdateExecutor_commandChangesList_listUpdatedOnlyByExecutor() throws Exception {
+        List<Runnable> pendingUpdates = new ArrayList<>();
+        logic.setListUpdateExecutor(pendingUpdates::add);
+        List<Person> shownPersons = logic.getFilteredPersonList();
+
+        logic.executeAsync(ADD_AMY_COMMAND).get(5, TimeUnit.SECONDS);
+
+        assertTrue(shownPersons.isEmpty());
+        // The added person, then the person list
+        assertEquals(2, pendingUpdates.size());
+        pendingUpdates.forEach(Runnable::run);
+        assertEquals(model.getFilteredPersonList(), shownPersons);
+        assertEquals(1, shownPersons.size());
+    }
+
+    @Test
+    public void getGameParticipants_listUpdateExecutorSet_participantsAsPublished() throws Exception {
+        List<Runnable> pendingUpdates = new ArrayList<>();
+        logic.setListUpdateExecutor(pendingUpdates::add);
+        logic.executeAsync(ADD_AMY_COMMAND).get(5, TimeUnit.SECONDS);
+        Person amy = model.getFilteredPersonList().get(0);
+        Game game = new GameBuilder().withPersons(amy).build();
+
+        assertEquals(List.of(), logic.getGameParticipants(game));
+        pendingUpdates.forEach(Runnable::run);
+        assertEquals(List.of(amy), logic.getGameParticipants(game));
+    }
+
+    /**
+     * Waits for {@code future} to complete, and returns the exception it completed with, or null if it succeeded.
+     */
+    private static Throwable getFailure(CompletableFuture<?> future) throws Exception {
+        return future.handle((result, error) -> error).get(5, TimeUnit.SECONDS);
+    }
+
     /**
      * Executes the command and confirms tha
      * - no exceptions are thrown <br>
@@ -8,8 +8,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Sport;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -130,6 +134,16 @@ public class AddCommandTest {
             return new AddressBook();
         }
 
+        @Override
+        public AddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
 
         @Override
         public void addPerson(Person person) {
@@ -195,6 +209,34 @@ public class AddCommandTest {
 
         }
 
+        @Override
+        public void updateFilteredPersonListBySports(List<String> sportKeywords) {
+            requireNonNull(sportKeywords);
+
+        }
+
+        @Override
+        public void batch(Consumer<Model> mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListBySportsWithinRadius(List<String> sportKeywords, Location location,
+                                                                double radiusKm) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getNearestPersons(Location location, int limit, Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getNearestPersonsWithinRadius(Location location, double radiusKm, int limit,
+                Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void sortFilteredPersonListByDistance(Location location) {
             requireNonNull(location);
@@ -222,6 +264,26 @@ public class AddCommandTest {
         }
 
 
+        @Override
+        public List<Game> getGamesBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Game> getUpcomingGames(LocalDateTime from, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Game> getNextGame(Sport sport, LocalDateTime from) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getParticipants(Game game) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Game> getGameList() {
             return FXCollections.observableArrayList();
@@ -20,6 +20,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Sport;
 import seedu.address.testutil.TypicalPersons;
 
@@ -57,7 +58,7 @@ public class AddMemberCommandTest {
     @Test
     public void execute_duplicateMember_throwsCommandException() {
         Game gameToModify = model.getFilteredGameList().get(INDEX_FIRST_OBJECT.getZeroBased());
-        Person personToAdd = gameToModify.getParticipants().get(0);
+        Person personToAdd = model.getParticipants(gameToModify).get(0);
         String personName = personToAdd.getName().fullName;
 
         AddMemberCommand addMemberCommand = new AddMemberCommand(
@@ -118,11 +119,11 @@ public class AddMemberCommandTest {
     }
 
     /**
-     * Creates a new person with all the same fields as the original, plus an additional sport.
+     * Creates a new game with all the same fields as the original, plus an additional participant.
      */
     private Game createGameWithAdditionalPerson(Game game, Person person) {
-        List<Person> participantList = new ArrayList<>(game.getParticipants());
-        participantList.add(person);
+        List<PersonId> participantList = new ArrayList<>(game.getParticipantIds());
+        participantList.add(person.getId());
 
         return new Game(
                 game.getSport(),
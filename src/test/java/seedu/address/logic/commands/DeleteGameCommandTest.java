@@ -29,7 +29,7 @@ public class DeleteGameCommandTest {
         DeleteGameCommand deleteGameCommand = new DeleteGameCommand(INDEX_FIRST_OBJECT);
 
         String expectedMessage = String.format(DeleteGameCommand.MESSAGE_DELETE_GAME_SUCCESS,
-                Messages.format(gameToDelete));
+                Messages.format(gameToDelete, model.getParticipants(gameToDelete)));
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deleteGame(gameToDelete);
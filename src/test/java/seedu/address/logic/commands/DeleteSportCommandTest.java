@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -95,6 +96,21 @@ public class DeleteSportCommandTest {
         assertFalse(Sport.isValidSport(sportToDelete));
     }
 
+    @Test
+    public void execute_batchFails_sportKept() {
+        String sportToDelete = Sport.getSortedValidSports().get(0);
+        Model failingModel = new ModelManager(TypicalPersons.getTypicalAddressBook(), userPrefs) {
+            @Override
+            public void batch(Consumer<Model> mutations) {
+                throw new IllegalStateException();
+            }
+        };
+        DeleteSportCommand command = new DeleteSportCommand(Index.fromZeroBased(0));
+
+        assertThrows(IllegalStateException.class, () -> command.execute(failingModel));
+        assertTrue(Sport.isValidSport(sportToDelete));
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         int size = Sport.getSortedValidSports().size();
@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +22,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.Location;
 import seedu.address.model.person.SportContainsKeywordsPredicate;
 
 /**
@@ -95,6 +97,54 @@ public class FindSportSortByDistanceCommandTest {
         //sorted by distance upon checking using online postal code distance calculator
     }
 
+    /**
+     * Executes FindSportSortByDistanceCommand with a radius and expects only the nearby persons, sorted by distance.
+     */
+    @Test
+    public void execute_withRadius_nearbyPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        SportContainsKeywordsPredicate predicate = preparePredicate("volleyball cricket basketball rugby");
+        FindSportSortByDistanceCommand command = new FindSportSortByDistanceCommand(predicate,
+                Arrays.asList("volleyball", "cricket", "basketball", "rugby"), "018916", Optional.of(5.0));
+        Location origin = LocationUtil.createLocation(new Address("temp"), "018916");
+        expectedModel.updateFilteredPersonList(predicate.and(person -> person.getLocation().distanceTo(origin) <= 5));
+        expectedModel.sortFilteredPersonListByDistance(origin);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    /**
+     * Executes FindSportSortByDistanceCommand with a limit and expects only the nearest persons, sorted by distance.
+     */
+    @Test
+    public void execute_withLimit_nearestPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        SportContainsKeywordsPredicate predicate = preparePredicate("volleyball cricket basketball rugby");
+        FindSportSortByDistanceCommand command = new FindSportSortByDistanceCommand(predicate,
+                Arrays.asList("volleyball", "cricket", "basketball", "rugby"), "018916", Optional.empty(),
+                Optional.of(2));
+        Location origin = LocationUtil.createLocation(new Address("temp"), "018916");
+        expectedModel.updateFilteredPersonList(person -> person.equals(ELLE) || person.equals(ALICE));
+        expectedModel.sortFilteredPersonListByDistance(origin);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, ALICE), model.getFilteredPersonList());
+    }
+
+    /**
+     * Executes FindSportSortByDistanceCommand with a radius and a limit larger than the persons within the radius.
+     */
+    @Test
+    public void execute_withRadiusAndLimit_nearbyPersonsFound() {
+        SportContainsKeywordsPredicate predicate = preparePredicate("volleyball cricket basketball rugby");
+        FindSportSortByDistanceCommand command = new FindSportSortByDistanceCommand(predicate,
+                Arrays.asList("volleyball", "cricket", "basketball", "rugby"), "018916", Optional.of(5.0),
+                Optional.of(10));
+
+        command.execute(model);
+
+        assertEquals(Arrays.asList(ELLE, ALICE, CARL), model.getFilteredPersonList());
+    }
+
     /**
      * Executes FindSportCommand with an invalid sport keyword and expects failure message.
      */
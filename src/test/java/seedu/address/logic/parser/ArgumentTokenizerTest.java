@@ -136,6 +136,42 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixTaken() {
+        Prefix pcSlash = new Prefix("pc/");
+        Prefix p = new Prefix("p");
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble pc/018906 p/91234567 pa", p, pSlash,
+                pcSlash);
+
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pcSlash, "018906");
+        assertArgumentPresent(argMultimap, pSlash, "91234567");
+        assertArgumentPresent(argMultimap, p, "a");
+    }
+
+    @Test
+    public void tokenize_manyArguments_allKeptInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[20];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(i % 2 == 0 ? " p/" : " -t").append(expectedValues[i]);
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT);
+
+        assertPreamblePresent(argMultimap, "preamble");
+        String[] expectedPSlashValues = new String[10];
+        String[] expectedDashTValues = new String[10];
+        for (int i = 0; i < 10; i++) {
+            expectedPSlashValues[i] = expectedValues[2 * i];
+            expectedDashTValues[i] = expectedValues[2 * i + 1];
+        }
+        assertArgumentPresent(argMultimap, pSlash, expectedPSlashValues);
+        assertArgumentPresent(argMultimap, dashT, expectedDashTValues);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -1,13 +1,17 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSTAL_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RADIUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SPORT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -144,4 +148,52 @@ public class FindSportCommandParserTest {
 
 
     }
+
+    /**
+     * Tests parsing of a radius, expecting a FindSportSortByDistanceCommand limited to that radius.
+     */
+    @Test
+    public void parse_validRadius_returnsFindSportSortByDistanceCommand() throws Exception {
+        List<String> keywords = Arrays.asList("soccer");
+        FindSportSortByDistanceCommand command = (FindSportSortByDistanceCommand) parser.parse(" "
+                + PREFIX_POSTAL_CODE + "018906 " + PREFIX_RADIUS + "3 " + PREFIX_SPORT + "soccer");
+
+        assertEquals(new FindSportSortByDistanceCommand(new SportContainsKeywordsPredicate(keywords), keywords,
+                "018906", Optional.of(3.0)), command);
+        assertEquals(Optional.of(3.0), command.radiusKm);
+    }
+
+    /**
+     * Tests parsing of a radius without a postal code or with an invalid value, expecting parse failure.
+     */
+    @Test
+    public void parse_invalidRadius_fails() {
+        assertParseFailure(parser, " " + PREFIX_RADIUS + "3 " + PREFIX_SPORT + "soccer",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_POSTAL_CODE + "018906 " + PREFIX_RADIUS + "-3 "
+                + PREFIX_SPORT + "soccer", ParserUtil.MESSAGE_INVALID_RADIUS);
+    }
+
+    /**
+     * Tests parsing of a limit, expecting a FindSportSortByDistanceCommand keeping that many of the nearest persons.
+     */
+    @Test
+    public void parse_validLimit_returnsFindSportSortByDistanceCommand() throws Exception {
+        FindSportSortByDistanceCommand command = (FindSportSortByDistanceCommand) parser.parse(" "
+                + PREFIX_POSTAL_CODE + "018906 " + PREFIX_LIMIT + "5 " + PREFIX_SPORT + "soccer");
+
+        assertEquals(Optional.of(5), command.limit);
+        assertEquals(Optional.empty(), command.radiusKm);
+    }
+
+    /**
+     * Tests parsing of a limit without a postal code or with an invalid value, expecting parse failure.
+     */
+    @Test
+    public void parse_invalidLimit_fails() {
+        assertParseFailure(parser, " " + PREFIX_LIMIT + "5 " + PREFIX_SPORT + "soccer",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_POSTAL_CODE + "018906 " + PREFIX_LIMIT + "0 "
+                + PREFIX_SPORT + "soccer", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
 }
@@ -142,6 +142,20 @@ public class ParserUtilTest {
         assertEquals(expectedAddress, ParserUtil.parseAddress(addressWithWhitespace));
     }
 
+    @Test
+    public void parseRadius_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseRadius("three"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRadius("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRadius("-1.5"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRadius("NaN"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseRadius("Infinity"));
+    }
+
+    @Test
+    public void parseRadius_validValueWithWhitespace_returnsRadius() throws Exception {
+        assertEquals(2.5, ParserUtil.parseRadius(WHITESPACE + "2.5" + WHITESPACE));
+    }
+
     @Test
     public void parsePostalCode_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parsePostalCode((String) null));
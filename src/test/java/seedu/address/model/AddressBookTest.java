@@ -7,12 +7,17 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,7 +25,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SportContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.GameBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -79,6 +86,180 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsPlayingAnySport_typicalAddressBook_returnsPlayers() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Set<Person> players = typicalAddressBook.getPersonsPlayingAnySport(List.of("VOLLEYBALL", "cricket"));
+        assertEquals(2, players.size());
+        assertTrue(players.contains(ALICE));
+        assertTrue(players.contains(BENSON));
+    }
+
+    @Test
+    public void getPersonsPlayingAnySport_afterSetPerson_reflectsEditedSports() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withSports("tennis").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsPlayingAnySport(List.of("volleyball")).isEmpty());
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsPlayingAnySport(List.of("tennis")));
+    }
+
+    @Test
+    public void getPersonsPlayingAnySport_afterRemovePerson_returnsEmpty() {
+        addressBook.addPerson(ALICE);
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getPersonsPlayingAnySport(List.of("volleyball")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsPlayingAnySportWithinRadius_typicalAddressBook_matchesFullScan() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<String> keywords = List.of("volleyball", "cricket");
+        for (double radiusKm : new double[] {0, 2, 10, 50}) {
+            Set<Person> expected = typicalAddressBook.getPersonList().stream()
+                    .filter(person -> new SportContainsKeywordsPredicate(keywords).test(person))
+                    .filter(person -> person.getLocation().distanceTo(ALICE.getLocation()) <= radiusKm)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(typicalAddressBook.getPersonsPlayingAnySportWithinRadius(keywords,
+                    ALICE.getLocation(), radiusKm)));
+        }
+    }
+
+    @Test
+    public void getPersonsWithinRadius_afterSetPerson_reflectsEditedLocation() {
+        addressBook.addPerson(ALICE);
+        Person movedAlice = new PersonBuilder(ALICE).withPostalCode(BENSON.getLocation().getPostalCode()).build();
+        addressBook.setPerson(ALICE, movedAlice);
+        assertEquals(Set.of(movedAlice), addressBook.getPersonsWithinRadius(BENSON.getLocation(), 0));
+        assertEquals(List.of(movedAlice), addressBook.getNearestPersons(BENSON.getLocation(), 1, unused -> true));
+    }
+
+    @Test
+    public void getVersion_everyMutation_advancesVersion() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        Game game = new GameBuilder().withPersons(editedAlice).build();
+        addressBook.addGame(game);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removeGame(game);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_queries_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonsPlayingAnySport(List.of("volleyball"));
+        addressBook.getGamesWithParticipant(ALICE);
+
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getChangesSince_personsAndGamesChanged_changesFound() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        AddressBookChange mark = addressBook.getLastChange();
+        AddressBook copy = AddressBook.copyOf(addressBook);
+
+        Game game = new GameBuilder().withPersons(BENSON).build();
+        copy.addGame(game);
+        copy.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicia").build());
+        copy.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+
+        ChangedEntries changes = copy.getChangesSince(mark).get();
+        assertEquals(Set.of(ALICE.getId(), BENSON.getId()), changes.getPersonIds());
+        assertEquals(Set.of(game.getDateTime()), changes.getGameDateTimes());
+        assertTrue(addressBook.getChangesSince(mark).get().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_dataReplaced_changesUnknown() {
+        addressBook.addPerson(ALICE);
+        AddressBookChange mark = addressBook.getLastChange();
+
+        addressBook.setPersons(List.of(BENSON));
+
+        assertFalse(addressBook.getChangesSince(mark).isPresent());
+    }
+
+    @Test
+    public void copyOf_laterChanges_copyUnaffected() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Game game = new GameBuilder().withPersons(ALICE).build();
+        addressBook.addGame(game);
+
+        AddressBook copy = AddressBook.copyOf(addressBook);
+        addressBook.setGame(game, game.withParticipantIds(List.of(ALICE.getId(), BENSON.getId())));
+        addressBook.removePerson(ALICE);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), copy.getPersonList());
+        assertEquals(List.of(ALICE.getId()), copy.getGameList().get(0).getParticipantIds());
+        assertEquals(Set.of(ALICE), copy.getPersonsPlayingAnySport(List.of("volleyball")));
+    }
+
+    @Test
+    public void copyOf_derivedFromEarlierCopy_sameAsFullCopy() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        Game game = new GameBuilder().withPersons(ALICE).build();
+        addressBook.addGame(game);
+        AddressBook earlierCopy = AddressBook.copyOf(addressBook, null);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(DANIEL);
+        Game movedGame = new GameBuilder(game).withDateTime(game.getDateTime().plusDays(2)).build();
+        addressBook.setGame(game, movedGame);
+        Game earlierGame = new GameBuilder().withPersons(CARL).withDateTime(game.getDateTime().minusDays(1)).build();
+        addressBook.addGame(earlierGame);
+        AddressBook derivedCopy = AddressBook.copyOf(addressBook, earlierCopy);
+        addressBook.removePerson(CARL);
+        AddressBook laterCopy = AddressBook.copyOf(addressBook, derivedCopy);
+
+        assertEquals(addressBook.getVersion(), laterCopy.getVersion());
+        assertEquals(addressBook.getEntryCount(), laterCopy.getEntryCount());
+        assertEquals(Arrays.asList(editedAlice, DANIEL), laterCopy.getPersonList());
+        assertEquals(Arrays.asList(editedAlice, CARL, DANIEL), derivedCopy.getPersonList());
+        assertEquals(Arrays.asList(earlierGame, movedGame), derivedCopy.getGameList());
+        assertEquals(AddressBook.copyOf(addressBook), laterCopy);
+        assertEquals(Set.of(editedAlice), laterCopy.getPersonsPlayingAnySport(List.of("volleyball")));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), earlierCopy.getPersonList());
+    }
+
+    @Test
+    public void copyOf_changesUnknown_fullCopy() {
+        addressBook.addPerson(ALICE);
+        AddressBook earlierCopy = AddressBook.copyOf(addressBook, null);
+
+        addressBook.setPersons(List.of(BENSON));
+
+        assertEquals(List.of(BENSON), AddressBook.copyOf(addressBook, earlierCopy).getPersonList());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Location;
+import seedu.address.model.person.Person;
+
+public class LocationIndexTest {
+
+    private final LocationIndex locationIndex = new LocationIndex();
+
+    @Test
+    public void findNearest_typicalPersons_matchesFullSort() {
+        List<Person> persons = getTypicalPersons();
+        locationIndex.addAll(persons);
+        Location origin = BENSON.getLocation();
+
+        List<Person> expected = persons.stream()
+                .sorted(Comparator.comparingDouble(person -> person.getLocation().distanceTo(origin)))
+                .limit(3)
+                .collect(Collectors.toList());
+        List<Double> expectedDistances = distancesFrom(origin, expected);
+        assertEquals(expectedDistances, distancesFrom(origin, locationIndex.findNearest(origin, 3, unused -> true)));
+    }
+
+    @Test
+    public void findNearest_withPredicate_skipsNonMatchingPersons() {
+        locationIndex.addAll(List.of(ALICE, BENSON, CARL));
+        assertEquals(List.of(BENSON),
+                locationIndex.findNearest(ALICE.getLocation(), 1, person -> person.equals(BENSON)));
+    }
+
+    @Test
+    public void findNearest_limitLargerThanIndex_returnsEveryPerson() {
+        locationIndex.addAll(List.of(ALICE, BENSON, CARL));
+        assertEquals(3, locationIndex.findNearest(ALICE.getLocation(), 10, unused -> true).size());
+        assertTrue(locationIndex.findNearest(ALICE.getLocation(), 0, unused -> true).isEmpty());
+    }
+
+    @Test
+    public void findNearest_withinRadius_matchesFullSort() {
+        List<Person> persons = getTypicalPersons();
+        locationIndex.addAll(persons);
+        Location origin = ALICE.getLocation();
+
+        for (double radiusKm : new double[] {0, 0.5, 2, 10, 50}) {
+            List<Person> expected = persons.stream()
+                    .filter(person -> person.getLocation().distanceTo(origin) <= radiusKm)
+                    .sorted(Comparator.comparingDouble(person -> person.getLocation().distanceTo(origin)))
+                    .limit(3)
+                    .collect(Collectors.toList());
+            assertEquals(distancesFrom(origin, expected),
+                    distancesFrom(origin, locationIndex.findNearest(origin, 3, radiusKm, unused -> true)));
+        }
+    }
+
+    @Test
+    public void findWithinRadius_typicalPersons_matchesFullScan() {
+        List<Person> persons = getTypicalPersons();
+        locationIndex.addAll(persons);
+        Location origin = ALICE.getLocation();
+
+        for (double radiusKm : new double[] {0, 0.5, 2, 10, 50}) {
+            Set<Person> expected = persons.stream()
+                    .filter(person -> person.getLocation().distanceTo(origin) <= radiusKm)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(locationIndex.findWithinRadius(origin, radiusKm)));
+        }
+    }
+
+    @Test
+    public void remove_indexedPerson_removesFromCell() {
+        locationIndex.addAll(List.of(ALICE, BENSON));
+        locationIndex.remove(ALICE);
+        assertEquals(List.of(BENSON), locationIndex.findNearest(ALICE.getLocation(), 2, unused -> true));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        locationIndex.addAll(List.of(ALICE, BENSON));
+        locationIndex.clear();
+        assertTrue(locationIndex.findWithinRadius(ALICE.getLocation(), 100).isEmpty());
+        assertTrue(locationIndex.findNearest(ALICE.getLocation(), 1, unused -> true).isEmpty());
+    }
+
+    private static List<Double> distancesFrom(Location origin, List<Person> persons) {
+        return persons.stream().map(person -> person.getLocation().distanceTo(origin)).collect(Collectors.toList());
+    }
+}
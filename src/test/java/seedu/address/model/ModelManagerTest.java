@@ -2,21 +2,36 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.game.Game;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.GameBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +108,218 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortFilteredPersonListByDistance_personAddedAfterSort_keepsDistanceOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.sortFilteredPersonListByDistance(ALICE.getLocation());
+        modelManager.addPerson(ALICE);
+
+        List<Person> expected = List.of(ALICE, BENSON, CARL).stream()
+                .sorted(Comparator.comparingDouble(person -> person.getLocation().distanceTo(ALICE.getLocation())))
+                .collect(Collectors.toList());
+        assertEquals(expected, List.copyOf(modelManager.getFilteredPersonList()));
+    }
+
+    @Test
+    public void setPerson_personInGames_leavesGamesUntouched() {
+        Game game = new GameBuilder().withPersons(ALICE, BENSON).build();
+        Game laterGame = new GameBuilder().withDateTime(GameBuilder.DEFAULT_DATE_TIME.plusDays(1))
+                .withPersons(BENSON).build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.addGame(laterGame);
+        modelManager.addGame(game);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+
+        modelManager.setPerson(ALICE, editedAlice);
+
+        assertSame(game, modelManager.getGameList().get(0));
+        assertSame(laterGame, modelManager.getGameList().get(1));
+        Person storedAlice = modelManager.getParticipants(game).get(0);
+        assertEquals(editedAlice, storedAlice);
+        assertEquals(ALICE.getId(), storedAlice.getId());
+    }
+
+    @Test
+    public void deletePerson_personInGames_removesParticipantFromGames() {
+        Game game = new GameBuilder().withPersons(ALICE, BENSON).build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        modelManager.addGame(game);
+
+        modelManager.deletePerson(ALICE);
+
+        Game updatedGame = modelManager.getGameList().get(0);
+        assertEquals(List.of(BENSON.getId()), updatedGame.getParticipantIds());
+        assertEquals(List.of(BENSON), modelManager.getParticipants(updatedGame));
+    }
+
+    @Test
+    public void batch_multipleMutations_publishesOneChangePerList() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build());
+        Game game = new GameBuilder().withPersons(ALICE, BENSON).build();
+        modelManager.addGame(game);
+        List<Integer> personChanges = new ArrayList<>();
+        List<Integer> gameChanges = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                personChanges.add(1));
+        modelManager.getAddressBook().getGameList().addListener((ListChangeListener<Game>) change ->
+                gameChanges.add(1));
+
+        modelManager.batch(tx -> {
+            tx.addPerson(CARL);
+            tx.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+            tx.deletePerson(BENSON);
+            assertEquals(List.of(ALICE, BENSON), List.copyOf(modelManager.getAddressBook().getPersonList()));
+        });
+
+        assertEquals(1, personChanges.size());
+        assertEquals(1, gameChanges.size());
+        assertEquals(2, modelManager.getAddressBook().getPersonList().size());
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(1, modelManager.getGameList().get(0).getParticipantIds().size());
+    }
+
+    @Test
+    public void batch_mutationsThrow_rollsBackAllMutations() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        long version = modelManager.getAddressBookVersion();
+
+        assertThrows(IllegalStateException.class, () -> modelManager.batch(tx -> {
+            tx.addPerson(BENSON);
+            tx.deletePerson(ALICE);
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(version, modelManager.getAddressBookVersion());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        modelManager.updateFilteredPersonListBySports(List.of("volleyball"));
+        assertEquals(List.of(ALICE), List.copyOf(modelManager.getFilteredPersonList()));
+    }
+
+    @Test
+    public void updateFilteredPersonListBySports_personEditedWhileFiltered_staysListed() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListBySports(List.of("volleyball"));
+        assertEquals(List.of(ALICE), List.copyOf(modelManager.getFilteredPersonList()));
+
+        Person aliceWithTennis = new PersonBuilder(ALICE).withSports("volleyball", "tennis").build();
+        modelManager.setPerson(ALICE, aliceWithTennis);
+
+        assertEquals(List.of(aliceWithTennis), List.copyOf(modelManager.getFilteredPersonList()));
+    }
+
+    @Test
+    public void getAddressBookSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        assertSame(snapshot, modelManager.getAddressBookSnapshot());
+
+        modelManager.addPerson(BENSON);
+
+        assertEquals(List.of(ALICE), List.copyOf(snapshot.getPersonList()));
+        assertEquals(modelManager.getAddressBook(), modelManager.getAddressBookSnapshot());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getAddressBookSnapshot_concurrentReadersAndWriter_consistentSnapshots() throws Exception {
+        int pairCount = 150;
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 2 * pairCount; i++) {
+            persons.add(new PersonBuilder().withName("Player " + i).withSports("volleyball").build());
+        }
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger snapshotCount = new AtomicInteger();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread reader = new Thread(() -> {
+                long lastVersion = -1;
+                try {
+                    while (isWriting.get()) {
+                        AddressBook snapshot = modelManager.getAddressBookSnapshot();
+                        int size = snapshot.getPersonList().size();
+                        // Pairs are added and removed together, so a partly applied change has an odd size
+                        assertEquals(0, size % 2);
+                        assertEquals(size, snapshot.getPersonsPlayingAnySport(List.of("volleyball")).size());
+                        assertTrue(snapshot.getVersion() >= lastVersion);
+                        assertEquals(size, snapshot.getPersonList().size());
+                        lastVersion = snapshot.getVersion();
+                        modelManager.hasPerson(persons.get(0));
+                        snapshotCount.incrementAndGet();
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        try {
+            for (int i = 0; i < pairCount; i++) {
+                Person first = persons.get(2 * i);
+                Person second = persons.get(2 * i + 1);
+                modelManager.batch(tx -> {
+                    tx.addPerson(first);
+                    tx.addPerson(second);
+                });
+                if (i % 3 == 2) {
+                    modelManager.batch(tx -> {
+                        tx.deletePerson(first);
+                        tx.deletePerson(second);
+                    });
+                }
+            }
+        } finally {
+            isWriting.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError("Reader saw an inconsistent snapshot", failure.get());
+        }
+        assertTrue(snapshotCount.get() > 0);
+        assertEquals(2 * (pairCount - pairCount / 3), modelManager.getAddressBookSnapshot().getPersonList().size());
+        assertEquals(modelManager.getAddressBook(), modelManager.getAddressBookSnapshot());
+    }
+
+    @Test
+    public void getAddressBookVersion_batchInProgress_completedVersionWithoutWaiting() throws Exception {
+        modelManager.addPerson(ALICE);
+        long completedVersion = modelManager.getAddressBookVersion();
+        CountDownLatch isInBatch = new CountDownLatch(1);
+        CountDownLatch canFinishBatch = new CountDownLatch(1);
+
+        Thread writer = new Thread(() -> modelManager.batch(tx -> {
+            tx.addPerson(BENSON);
+            isInBatch.countDown();
+            try {
+                canFinishBatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        writer.start();
+        try {
+            isInBatch.await();
+            assertEquals(completedVersion, modelManager.getAddressBookVersion());
+        } finally {
+            canFinishBatch.countDown();
+            writer.join();
+        }
+
+        assertTrue(modelManager.getAddressBookVersion() > completedVersion);
+        assertEquals(modelManager.getAddressBookSnapshot().getVersion(), modelManager.getAddressBookVersion());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
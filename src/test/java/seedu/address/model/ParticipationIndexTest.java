@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.game.Game;
+import seedu.address.testutil.GameBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParticipationIndexTest {
+
+    private static final Game ALICE_AND_BENSON = new GameBuilder().withPersons(ALICE, BENSON).build();
+    private static final Game ALICE_AND_CARL = new GameBuilder()
+            .withDateTime(LocalDateTime.of(2025, 5, 1, 10, 0)).withPersons(ALICE, CARL).build();
+
+    private final ParticipationIndex participationIndex = new ParticipationIndex();
+
+    @Test
+    public void findGamesWithParticipant_indexedGames_returnsGamesOfPerson() {
+        participationIndex.addAll(List.of(ALICE_AND_BENSON, ALICE_AND_CARL));
+        assertEquals(Set.of(ALICE_AND_BENSON, ALICE_AND_CARL),
+                Set.copyOf(participationIndex.findGamesWithParticipant(ALICE.getId())));
+        assertEquals(List.of(ALICE_AND_CARL), participationIndex.findGamesWithParticipant(CARL.getId()));
+    }
+
+    @Test
+    public void findGamesWithParticipant_editedPersonKeepingId_matchesById() {
+        participationIndex.add(ALICE_AND_BENSON);
+        List<Game> games = participationIndex.findGamesWithParticipant(
+                new PersonBuilder(ALICE).withPhone("999").build().withId(ALICE.getId()).getId());
+        assertEquals(1, games.size());
+        assertSame(ALICE_AND_BENSON, games.get(0));
+    }
+
+    @Test
+    public void findGamesWithParticipant_samePersonWithOtherId_returnsEmptyList() {
+        participationIndex.add(ALICE_AND_BENSON);
+        assertTrue(participationIndex.findGamesWithParticipant(new PersonBuilder(ALICE).build().getId()).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedGame_removesFromPostings() {
+        participationIndex.addAll(List.of(ALICE_AND_BENSON, ALICE_AND_CARL));
+        participationIndex.remove(ALICE_AND_BENSON);
+        assertTrue(participationIndex.findGamesWithParticipant(BENSON.getId()).isEmpty());
+        assertEquals(List.of(ALICE_AND_CARL), participationIndex.findGamesWithParticipant(ALICE.getId()));
+    }
+
+    @Test
+    public void clear_removesAllPostings() {
+        participationIndex.addAll(List.of(ALICE_AND_BENSON, ALICE_AND_CARL));
+        participationIndex.clear();
+        assertTrue(participationIndex.findGamesWithParticipant(ALICE.getId()).isEmpty());
+    }
+}
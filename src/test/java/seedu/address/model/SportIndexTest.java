@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Sport;
+import seedu.address.model.person.SportContainsKeywordsPredicate;
+import seedu.address.model.person.SportRegistry;
+import seedu.address.testutil.PersonBuilder;
+
+public class SportIndexTest {
+
+    private final SportIndex sportIndex = new SportIndex();
+
+    @Test
+    public void findPersonsPlayingAny_multipleKeywords_returnsUnionOfPostings() {
+        sportIndex.addAll(List.of(ALICE, BENSON, CARL));
+        assertEquals(Set.of(ALICE, CARL), sportIndex.findPersonsPlayingAny(List.of("Volleyball", "basketball")));
+    }
+
+    @Test
+    public void findPersonsPlayingAny_unknownKeyword_returnsEmpty() {
+        sportIndex.add(ALICE);
+        assertTrue(sportIndex.findPersonsPlayingAny(List.of("golf")).isEmpty());
+    }
+
+    @Test
+    public void findPersonsPlayingAny_equalButDistinctPerson_comparesByIdentity() {
+        sportIndex.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        Set<Person> players = sportIndex.findPersonsPlayingAny(List.of("volleyball"));
+        assertTrue(players.contains(ALICE));
+        assertFalse(players.contains(aliceCopy));
+    }
+
+    @Test
+    public void findPersonsPlayingAny_sportNoLongerValid_matchesLikePredicate() {
+        Person golfer = new PersonBuilder().withName("Gary Golfer").withSports("golf").build();
+        sportIndex.add(golfer);
+        try {
+            SportRegistry.removeValidName("golf");
+            assertFalse(new SportContainsKeywordsPredicate(List.of("golf")).test(golfer));
+            assertTrue(sportIndex.findPersonsPlayingAny(List.of("golf")).isEmpty());
+        } finally {
+            Sport.loadDefaultSports();
+        }
+        assertEquals(Set.of(golfer), sportIndex.findPersonsPlayingAny(List.of("golf")));
+    }
+
+    @Test
+    public void remove_indexedPerson_removesFromPostings() {
+        sportIndex.addAll(List.of(ALICE, BENSON));
+        sportIndex.remove(ALICE);
+        assertTrue(sportIndex.findPersonsPlayingAny(List.of("volleyball")).isEmpty());
+        assertEquals(Set.of(BENSON), sportIndex.findPersonsPlayingAny(List.of("cricket")));
+    }
+
+    @Test
+    public void clear_removesAllPostings() {
+        sportIndex.addAll(List.of(ALICE, BENSON));
+        sportIndex.clear();
+        assertTrue(sportIndex.findPersonsPlayingAny(List.of("volleyball", "cricket")).isEmpty());
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -24,4 +26,19 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setGlobalSportsListFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void isBinaryAddressBookFormat() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isBinaryAddressBookFormat());
+        userPrefs.setAddressBookFormat("Binary");
+        assertTrue(userPrefs.isBinaryAddressBookFormat());
+        userPrefs.setAddressBookFormat("xml");
+        assertFalse(userPrefs.isBinaryAddressBookFormat());
+    }
 }
@@ -16,7 +16,9 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.util.LocationUtil;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.Location;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.Sport;
 import seedu.address.testutil.GameBuilder;
 import seedu.address.testutil.TypicalGames;
@@ -28,7 +30,7 @@ public class GameTest {
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
         Game game = new GameBuilder().build();
-        assertThrows(UnsupportedOperationException.class, () -> game.getParticipants().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> game.getParticipantIds().remove(0));
     }
 
     @Test
@@ -90,34 +92,33 @@ public class GameTest {
         Game soccer = new GameBuilder(SOCCER).build();
         String expected = "Game: " + soccer.getSport() + " at " + soccer.getDateTime()
                 + " in " + soccer.getLocation()
-                + "Participants: " + soccer.getParticipants().size();
+                + "Participants: " + soccer.getParticipantIds().size();
         assertEquals(expected, soccer.toString());
     }
 
     @Test
-    public void getParticipants_modifyList_throwsUnsupportedOperationException() {
+    public void getParticipantIds_modifyList_throwsUnsupportedOperationException() {
         Game game = new GameBuilder().build();
-        assertThrows(UnsupportedOperationException.class, () -> game.getParticipants().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> game.getParticipantIds().remove(0));
     }
 
     @Test
     public void hasParticipants_gameWithNoParticipants_returnsFalse() {
         Game game = new GameBuilder().withPersons().build();
-        Person person = TypicalPersons.AMY;
-        assertFalse(game.getParticipants().contains(person));
+        assertFalse(game.hasParticipant(TypicalPersons.AMY.getId()));
     }
 
     @Test
     public void hasParticipant_gameWithParticipant_returnsTrue() {
         Game game = new GameBuilder().build();
-        assertTrue(game.getParticipants().contains(TypicalPersons.ALICE));
+        assertTrue(game.hasParticipant(TypicalPersons.ALICE.getId()));
     }
 
     @Test
     public void addParticipant_success() {
         Game originalgame = new GameBuilder().build();
-        List<Person> updatedParticipants = new ArrayList<>(originalgame.getParticipants());
-        updatedParticipants.add(TypicalPersons.AMY);
+        List<PersonId> updatedParticipants = new ArrayList<>(originalgame.getParticipantIds());
+        updatedParticipants.add(TypicalPersons.AMY.getId());
 
         Game updatedGame = new Game(
                 originalgame.getSport(),
@@ -125,15 +126,15 @@ public class GameTest {
                 originalgame.getLocation(),
                 updatedParticipants);
 
-        assertTrue(updatedGame.getParticipants().contains(TypicalPersons.AMY));
-        assertEquals(originalgame.getParticipants().size() + 1, updatedGame.getParticipants().size());
+        assertTrue(updatedGame.hasParticipant(TypicalPersons.AMY.getId()));
+        assertEquals(originalgame.getParticipantIds().size() + 1, updatedGame.getParticipantIds().size());
     }
 
     @Test
     public void deleteParticipant_success() {
         Game originalgame = new GameBuilder().build();
-        List<Person> updatedParticipants = new ArrayList<>(originalgame.getParticipants());
-        updatedParticipants.remove(TypicalPersons.ALICE);
+        List<PersonId> updatedParticipants = new ArrayList<>(originalgame.getParticipantIds());
+        updatedParticipants.remove(TypicalPersons.ALICE.getId());
 
         Game updatedGame = new Game(
                 originalgame.getSport(),
@@ -141,8 +142,41 @@ public class GameTest {
                 originalgame.getLocation(),
                 updatedParticipants);
 
-        assertFalse(updatedGame.getParticipants().contains(TypicalPersons.ALICE));
-        assertEquals(originalgame.getParticipants().size() - 1, updatedGame.getParticipants().size());
+        assertFalse(updatedGame.hasParticipant(TypicalPersons.ALICE.getId()));
+        assertEquals(originalgame.getParticipantIds().size() - 1, updatedGame.getParticipantIds().size());
+    }
+
+    @Test
+    public void withParticipantIds_duplicateParticipant_throwsDuplicatePersonException() {
+        Game game = new GameBuilder().build();
+        List<PersonId> participantIds = new ArrayList<>(game.getParticipantIds());
+        participantIds.add(TypicalPersons.ALICE.getId());
+        assertThrows(DuplicatePersonException.class, () -> game.withParticipantIds(participantIds));
+    }
+
+    @Test
+    public void withParticipantIds_newParticipant_originalUnchanged() {
+        Game game = new GameBuilder().build();
+        List<PersonId> participantIds = new ArrayList<>(game.getParticipantIds());
+        participantIds.add(TypicalPersons.AMY.getId());
+
+        Game updatedGame = game.withParticipantIds(participantIds);
+
+        assertEquals(participantIds, updatedGame.getParticipantIds());
+        assertFalse(game.hasParticipant(TypicalPersons.AMY.getId()));
+        assertEquals(game.getLocation(), updatedGame.getLocation());
+    }
+
+    @Test
+    public void withLocation_newLocation_participantsKept() {
+        Game game = new GameBuilder().build();
+        Location newLocation = LocationUtil.createLocation("402001");
+
+        Game movedGame = game.withLocation(newLocation);
+
+        assertEquals(newLocation, movedGame.getLocation());
+        assertEquals(game.getParticipantIds(), movedGame.getParticipantIds());
+        assertEquals(game.getDateTime(), movedGame.getDateTime());
     }
 
     @Test
@@ -150,13 +184,13 @@ public class GameTest {
 
         Game originalGame = new GameBuilder().build();
 
-        List<Person> participantList = new ArrayList<>(originalGame.getParticipants());
+        List<PersonId> participantList = new ArrayList<>(originalGame.getParticipantIds());
 
 
-        participantList.add(TypicalPersons.AMY);
+        participantList.add(TypicalPersons.AMY.getId());
 
-        assertFalse(originalGame.getParticipants().contains(TypicalPersons.AMY));
-        assertEquals(2, originalGame.getParticipants().size()); // initialised with 2 pax
+        assertFalse(originalGame.hasParticipant(TypicalPersons.AMY.getId()));
+        assertEquals(2, originalGame.getParticipantIds().size()); // initialised with 2 pax
     }
 
     @Test
@@ -2,15 +2,19 @@ package seedu.address.model.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGames.SOCCER;
+import static seedu.address.testutil.TypicalGames.TENNIS;
 import static seedu.address.testutil.TypicalGames.VOLLEYBALL;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -45,6 +49,14 @@ public class UniqueGameListTest {
         assertTrue(uniqueGameList.contains(editedGame));
     }
 
+    @Test
+    public void getGameWithSameIdentity_gameWithSameIdentityFieldsInList_returnsStoredGame() {
+        uniqueGameList.add(VOLLEYBALL);
+        Game editedGame = new GameBuilder(VOLLEYBALL).withLocation("402001").build();
+        assertSame(VOLLEYBALL, uniqueGameList.getGameWithSameIdentity(editedGame));
+        assertNull(uniqueGameList.getGameWithSameIdentity(SOCCER));
+    }
+
     @Test
     public void add_nullGame_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueGameList.add(null));
@@ -106,6 +118,49 @@ public class UniqueGameListTest {
         assertThrows(DuplicateGameException.class, () -> uniqueGameList.setGame(SOCCER, VOLLEYBALL));
     }
 
+    @Test
+    public void setGame_editedGameHasLaterDateTime_movesGameIntoOrder() {
+        uniqueGameList.setGames(Arrays.asList(VOLLEYBALL, SOCCER, TENNIS));
+        Game movedVolleyball = new GameBuilder(VOLLEYBALL).withDateTime(TENNIS.getDateTime().plusDays(1)).build();
+        uniqueGameList.setGame(VOLLEYBALL, movedVolleyball);
+        assertEquals(Arrays.asList(SOCCER, TENNIS, movedVolleyball), uniqueGameList.asUnmodifiableObservableList());
+        assertFalse(uniqueGameList.contains(VOLLEYBALL));
+    }
+
+    @Test
+    public void add_gamesOutOfOrder_keepsListSortedByDateTime() {
+        uniqueGameList.add(TENNIS);
+        uniqueGameList.add(VOLLEYBALL);
+        uniqueGameList.add(SOCCER);
+        assertEquals(Arrays.asList(VOLLEYBALL, SOCCER, TENNIS), uniqueGameList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getGamesBetween_typicalGames_returnsGamesInWindow() {
+        uniqueGameList.setGames(Arrays.asList(VOLLEYBALL, SOCCER, TENNIS));
+        assertEquals(Arrays.asList(VOLLEYBALL, SOCCER),
+                uniqueGameList.getGamesBetween(VOLLEYBALL.getDateTime(), SOCCER.getDateTime()));
+        assertTrue(uniqueGameList.getGamesBetween(TENNIS.getDateTime(), VOLLEYBALL.getDateTime()).isEmpty());
+    }
+
+    @Test
+    public void getUpcomingGames_typicalGames_returnsLimitedGamesFromTime() {
+        uniqueGameList.setGames(Arrays.asList(VOLLEYBALL, SOCCER, TENNIS));
+        assertEquals(Arrays.asList(SOCCER, TENNIS),
+                uniqueGameList.getUpcomingGames(VOLLEYBALL.getDateTime().plusMinutes(1), 5));
+        assertEquals(Arrays.asList(VOLLEYBALL), uniqueGameList.getUpcomingGames(VOLLEYBALL.getDateTime(), 1));
+    }
+
+    @Test
+    public void getNextGame_typicalGames_returnsEarliestGameOfSport() {
+        uniqueGameList.setGames(Arrays.asList(VOLLEYBALL, SOCCER, TENNIS));
+        assertEquals(Optional.of(SOCCER), uniqueGameList.getNextGame(SOCCER.getSport(), VOLLEYBALL.getDateTime()));
+        assertEquals(Optional.empty(), uniqueGameList.getNextGame(SOCCER.getSport(), TENNIS.getDateTime()));
+
+        uniqueGameList.remove(SOCCER);
+        assertEquals(Optional.empty(), uniqueGameList.getNextGame(SOCCER.getSport(), VOLLEYBALL.getDateTime()));
+    }
+
     @Test
     public void remove_nullGame_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueGameList.remove(null));
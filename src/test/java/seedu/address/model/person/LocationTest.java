@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -7,6 +8,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class LocationTest {
@@ -108,6 +113,61 @@ public class LocationTest {
         assertEquals(location1.distanceTo(location2), location2.distanceTo(location1), 0.001);
     }
 
+    @Test
+    public void distancesTo_batch_matchesDistanceTo() {
+        Location origin = new Location(VALID_POSTAL_CODE_1, VALID_ADDRESS_1,
+                VALID_LATITUDE_1, VALID_LONGITUDE_1);
+        Location other = new Location(VALID_POSTAL_CODE_2, VALID_ADDRESS_2,
+                VALID_LATITUDE_2, VALID_LONGITUDE_2);
+
+        double[] distances = origin.distancesTo(List.of(other, origin));
+        assertEquals(2, distances.length);
+        assertEquals(origin.distanceTo(other), distances[0]);
+        assertEquals(0.0, distances[1]);
+        assertEquals(0, origin.distancesTo(Collections.emptyList()).length);
+    }
+
+    @Test
+    public void distancesTo_largeBatch_matchesDistanceTo() {
+        Location origin = new Location(VALID_POSTAL_CODE_1, VALID_ADDRESS_1,
+                VALID_LATITUDE_1, VALID_LONGITUDE_1);
+        List<Location> others = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            others.add(new Location(VALID_POSTAL_CODE_2, VALID_ADDRESS_2,
+                    VALID_LATITUDE_2 + i * 1e-5, VALID_LONGITUDE_2 - i * 1e-5));
+        }
+
+        double[] distances = origin.distancesTo(others);
+        for (int i = 0; i < others.size(); i++) {
+            assertEquals(origin.distanceTo(others.get(i)), distances[i]);
+        }
+    }
+
+    @Test
+    public void orderByDistance_distances_nearestFirstWithTiesInOrder() {
+        assertArrayEquals(new int[] {2, 0, 3, 1}, Location.orderByDistance(new double[] {1.5, 12.25, 0.0, 1.5}));
+        assertEquals(0, Location.orderByDistance(new double[0]).length);
+    }
+
+    @Test
+    public void squaredChordTo_severalLocations_ordersLikeDistanceTo() {
+        Location origin = new Location(VALID_POSTAL_CODE_1, VALID_ADDRESS_1,
+                VALID_LATITUDE_1, VALID_LONGITUDE_1);
+        List<Location> others = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            others.add(new Location(VALID_POSTAL_CODE_2, VALID_ADDRESS_2,
+                    VALID_LATITUDE_2 + (i % 7) * 0.013, VALID_LONGITUDE_2 - (i % 11) * 0.017));
+        }
+
+        for (Location first : others) {
+            for (Location second : others) {
+                assertEquals(Integer.signum(Double.compare(origin.distanceTo(first), origin.distanceTo(second))),
+                        Integer.signum(Double.compare(origin.getCoordinates().squaredChordTo(first.getCoordinates()),
+                                origin.getCoordinates().squaredChordTo(second.getCoordinates()))));
+            }
+        }
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         Location location = new Location(VALID_POSTAL_CODE_1, VALID_ADDRESS_1,
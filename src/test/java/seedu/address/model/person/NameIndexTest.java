@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private static final Name ALICE = new Name("Alice Pauline");
+    private static final Name BENSON = new Name("Benson Meier");
+    private static final Name DANIEL = new Name("Daniel Meier");
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @BeforeEach
+    public void setUp() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+    }
+
+    @Test
+    public void findByFullName_differentCase_returnsMatch() {
+        assertEquals(List.of(ALICE), nameIndex.findByFullName("alice PAULINE", 2));
+    }
+
+    @Test
+    public void findByFullName_partialName_returnsEmpty() {
+        assertTrue(nameIndex.findByFullName("Alice", 2).isEmpty());
+    }
+
+    @Test
+    public void findBySubstring_uniqueKeyword_returnsSingleMatch() {
+        assertEquals(List.of(BENSON), nameIndex.findBySubstring("BENS", 2));
+        assertEquals(List.of(ALICE), nameIndex.findBySubstring("aul", 2));
+    }
+
+    @Test
+    public void findBySubstring_sharedKeyword_returnsUpToLimit() {
+        assertEquals(2, nameIndex.findBySubstring("meier", 2).size());
+        assertEquals(1, nameIndex.findBySubstring("meier", 1).size());
+    }
+
+    @Test
+    public void findBySubstring_shortKeyword_scansNames() {
+        assertEquals(List.of(DANIEL), nameIndex.findBySubstring("Da", 2));
+        assertTrue(nameIndex.findBySubstring("z", 2).isEmpty());
+    }
+
+    @Test
+    public void findBySubstring_unknownGram_returnsEmpty() {
+        assertTrue(nameIndex.findBySubstring("xyz", 2).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedName_noLongerMatches() {
+        nameIndex.remove(BENSON);
+        assertEquals(List.of(DANIEL), nameIndex.findBySubstring("meier", 2));
+        assertTrue(nameIndex.findByFullName("Benson Meier", 2).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllNames() {
+        nameIndex.clear();
+        assertTrue(nameIndex.findBySubstring("a", 2).isEmpty());
+    }
+}
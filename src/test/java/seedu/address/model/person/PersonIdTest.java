@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    private static final String VALID_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonId(null));
+    }
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonId("alice"));
+    }
+
+    @Test
+    public void isValidId() {
+        assertThrows(NullPointerException.class, () -> PersonId.isValidId(null));
+
+        assertFalse(PersonId.isValidId(""));
+        assertFalse(PersonId.isValidId("alice"));
+        assertFalse(PersonId.isValidId("123e4567-e89b-12d3-a456")); // too short
+        assertFalse(PersonId.isValidId("1-2-3-4-5")); // not in canonical form
+
+        assertTrue(PersonId.isValidId(VALID_ID));
+        assertTrue(PersonId.isValidId(VALID_ID.toUpperCase()));
+    }
+
+    @Test
+    public void generate_returnsDistinctValidIds() {
+        PersonId first = PersonId.generate();
+        PersonId second = PersonId.generate();
+        assertTrue(PersonId.isValidId(first.value));
+        assertFalse(first.equals(second));
+    }
+
+    @Test
+    public void equals() {
+        PersonId id = new PersonId(VALID_ID);
+
+        assertTrue(id.equals(new PersonId(VALID_ID)));
+        assertTrue(id.equals(new PersonId(VALID_ID.toUpperCase())));
+        assertTrue(id.equals(id));
+        assertFalse(id.equals(null));
+        assertFalse(id.equals(5.0f));
+        assertFalse(id.equals(PersonId.generate()));
+
+        assertEquals(id.hashCode(), new PersonId(VALID_ID.toUpperCase()).hashCode());
+    }
+}
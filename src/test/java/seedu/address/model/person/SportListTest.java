@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -43,6 +44,25 @@ public class SportListTest {
         assertEquals(0, sportList.size());
     }
 
+    @Test
+    public void remove_duplicateSport_keepsMembership() {
+        SportList sportList = new SportList(Arrays.asList(new Sport("soccer"), new Sport("Soccer")));
+        sportList.remove(new Sport("soccer"));
+        assertTrue(sportList.contains(new Sport("SOCCER")));
+        sportList.remove(new Sport("soccer"));
+        assertFalse(sportList.contains(new Sport("soccer")));
+    }
+
+    @Test
+    public void containsAny_sportIds_matchesBitwise() {
+        SportList sportList = new SportList(Arrays.asList(new Sport("soccer"), new Sport("tennis")));
+        BitSet ids = new BitSet();
+        ids.set(new Sport("golf").getId());
+        assertFalse(sportList.containsAny(ids));
+        ids.set(new Sport("tennis").getId());
+        assertTrue(sportList.containsAny(ids));
+    }
+
     @Test
     public void remove_nonExistingSport_returnsFalse() {
         SportList sportList = new SportList();
@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SportRegistryTest {
+
+    @AfterEach
+    public void tearDown() {
+        Sport.loadDefaultSports();
+    }
+
+    @Test
+    public void intern_sameName_returnsSameId() {
+        assertEquals(SportRegistry.intern("ultimate frisbee"), SportRegistry.intern("ultimate frisbee"));
+        assertEquals(new Sport("Soccer").getId(), new Sport("soccer").getId());
+    }
+
+    @Test
+    public void intern_differentNames_returnsDifferentIds() {
+        assertFalse(SportRegistry.intern("soccer") == SportRegistry.intern("tennis"));
+    }
+
+    @Test
+    public void removeValidName_validSport_keepsId() {
+        int id = SportRegistry.intern("golf");
+        assertTrue(SportRegistry.removeValidName("golf"));
+        assertFalse(SportRegistry.isValid("golf"));
+        assertFalse(SportRegistry.removeValidName("golf"));
+        assertEquals(id, SportRegistry.intern("golf"));
+    }
+
+    @Test
+    public void addValidName_newSport_updatesSortedView() {
+        assertTrue(SportRegistry.addValidName("archery"));
+        assertFalse(SportRegistry.addValidName("archery"));
+        assertEquals("archery", SportRegistry.getSortedValidNames().get(0));
+        assertTrue(SportRegistry.getValidNames().contains("archery"));
+    }
+
+    @Test
+    public void getSortedValidNames_unchangedRegistry_returnsSameInstance() {
+        assertTrue(SportRegistry.getSortedValidNames() == SportRegistry.getSortedValidNames());
+    }
+
+    @Test
+    public void getSortedValidNames_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> SportRegistry.getSortedValidNames().remove(0));
+    }
+
+    @Test
+    public void idsContainingAnyWord_matchingWords_returnsIds() {
+        SportRegistry.addValidName("table tennis");
+        BitSet ids = SportRegistry.idsContainingAnyWord(List.of("TENNIS"));
+        assertTrue(ids.get(SportRegistry.intern("table tennis")));
+        assertTrue(ids.get(SportRegistry.intern("tennis")));
+        assertFalse(ids.get(SportRegistry.intern("soccer")));
+    }
+
+    @Test
+    public void idsContainingAnyWord_invalidSport_notMatched() {
+        int beachVolleyball = SportRegistry.intern("beach volleyball");
+        assertFalse(SportRegistry.idsContainingAnyWord(List.of("beach")).get(beachVolleyball));
+
+        long version = SportRegistry.getValidSportsVersion();
+        SportRegistry.addValidName("beach volleyball");
+        assertTrue(SportRegistry.getValidSportsVersion() != version);
+        assertTrue(SportRegistry.idsContainingAnyWord(List.of("beach")).get(beachVolleyball));
+
+        SportRegistry.removeValidName("beach volleyball");
+        assertFalse(SportRegistry.idsContainingAnyWord(List.of("beach")).get(beachVolleyball));
+    }
+}
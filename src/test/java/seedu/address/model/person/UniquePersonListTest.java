@@ -2,12 +2,17 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -109,6 +114,43 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsIdOfTarget() {
+        uniquePersonList.add(ALICE);
+        Person stored = uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(BOB, stored);
+        assertEquals(ALICE.getId(), stored.getId());
+        assertSame(stored, uniquePersonList.getPersonById(ALICE.getId()));
+        assertNull(uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void add_personWithTakenId_assignsFreshId() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        Person stored = uniquePersonList.add(ALICE);
+        assertEquals(ALICE, stored);
+        assertNotEquals(ALICE.getId(), stored.getId());
+        assertSame(stored, uniquePersonList.getPersonById(stored.getId()));
+    }
+
+    @Test
+    public void remove_existingPerson_removesFromIdIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +169,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +204,7 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -162,6 +213,34 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPerson_partialName_returnsUniqueMatch() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        assertEquals(ALICE, uniquePersonList.getPerson("pauline"));
+        assertTrue(uniquePersonList.isPersonUnique("Alice Pauline"));
+    }
+
+    @Test
+    public void getPerson_ambiguousPartialName_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        assertFalse(uniquePersonList.isPersonUnique("Meier"));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.getPerson("Meier"));
+    }
+
+    @Test
+    public void getPerson_removedPerson_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPerson("Alice"));
+    }
+
+    @Test
+    public void findByFullName_caseInsensitive_returnsMatch() {
+        uniquePersonList.add(ALICE);
+        assertEquals(List.of(ALICE), uniquePersonList.findByFullName("ALICE PAULINE"));
+        assertTrue(uniquePersonList.findByFullName("Alice").isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,221 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Sport;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalGames;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Sport.loadDefaultSports();
+        model = new ModelManager(TypicalGames.getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uriOf(pathAndQuery)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uriOf(path)).POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uriOf(String pathAndQuery) {
+        return URI.create("http://localhost:" + server.getPort() + pathAndQuery);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parse(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> namesOf(Map<String, Object> body) {
+        return ((List<Map<String, Object>>) body.get("persons")).stream()
+                .map(person -> (String) person.get("name"))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void findPersons_nameQuery_matchesSortedByName() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "?name=meier");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(List.of("Benson Meier", "Daniel Meier"), namesOf(parse(response)));
+    }
+
+    @Test
+    public void findNearbyPersons_sportsQuery_matchesNearestFirst() throws Exception {
+        HttpResponse<String> response = get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910&sport="
+                + URLEncoder.encode("volleyball, tennis", StandardCharsets.UTF_8));
+
+        assertEquals(200, response.statusCode());
+        assertEquals(List.of("Daniel Meier", "Alice Pauline"), namesOf(parse(response)));
+
+        response = get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910&sport=volleyball,tennis&limit=1");
+        assertEquals(List.of("Daniel Meier"), namesOf(parse(response)));
+    }
+
+    @Test
+    public void findNearbyPersons_radiusWithLimit_nearestWithinRadius() throws Exception {
+        Map<String, Object> all = parse(get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910"));
+        Map<String, Object> limited = parse(get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910&limit=2"));
+        assertEquals(namesOf(all).subList(0, 2), namesOf(limited));
+
+        Map<String, Object> withinRadius = parse(get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910&radius=0"));
+        Map<String, Object> limitedWithinRadius = parse(get(ApiServer.NEARBY_PERSONS_PATH
+                + "?postalCode=018910&radius=0&limit=5"));
+        assertEquals(namesOf(withinRadius), namesOf(limitedWithinRadius));
+    }
+
+    @Test
+    public void findNearbyPersons_invalidParameters_badRequest() throws Exception {
+        assertEquals(400, get(ApiServer.NEARBY_PERSONS_PATH).statusCode());
+        assertEquals(400, get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910&radius=-1").statusCode());
+        assertEquals(400, get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910&limit=many").statusCode());
+        assertEquals(400, get(ApiServer.NEARBY_PERSONS_PATH + "?postalCode=018910&sport=quidditch").statusCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void listGames_typicalGames_chronologicalWithParticipants() throws Exception {
+        Map<String, Object> body = parse(get(ApiServer.GAMES_PATH));
+
+        List<Map<String, Object>> games = (List<Map<String, Object>>) body.get("games");
+        assertEquals(List.of("volleyball", "soccer", "tennis"),
+                games.stream().map(game -> game.get("sport")).collect(Collectors.toList()));
+        assertEquals(List.of("Alice Pauline", "Benson Meier"), games.get(0).get("participants"));
+    }
+
+    @Test
+    public void executeCommand_changingCommand_seenByLaterQueries() throws Exception {
+        Map<String, Object> before = parse(get(ApiServer.PERSONS_PATH));
+
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, ClearCommand.COMMAND_WORD);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(true, parse(response).get("success"));
+        Map<String, Object> after = parse(get(ApiServer.PERSONS_PATH));
+        assertTrue(namesOf(after).isEmpty());
+        assertNotEquals(before.get("version"), after.get("version"));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void executeCommand_invalidCommand_badRequest() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "unknowncommand");
+
+        assertEquals(400, response.statusCode());
+        assertEquals(false, parse(response).get("success"));
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, " ").statusCode());
+    }
+
+    @Test
+    public void request_unknownPathOrWrongMethod_rejected() throws Exception {
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "/unknown").statusCode());
+        assertEquals(405, post(ApiServer.PERSONS_PATH, "").statusCode());
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+    }
+
+    @Test
+    public void findPersons_concurrentWithCommands_eachSeesWholeSnapshot() throws Exception {
+        int personCount = model.getAddressBook().getPersonList().size();
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(readers.submit(() -> {
+                    List<Integer> sizes = new ArrayList<>();
+                    for (int j = 0; j < 25; j++) {
+                        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+                        assertEquals(200, response.statusCode());
+                        sizes.add(namesOf(parse(response)).size());
+                    }
+                    return sizes;
+                }));
+            }
+            for (int i = 0; i < 10; i++) {
+                post(ApiServer.COMMANDS_PATH, FindCommand.COMMAND_WORD + " alice");
+            }
+            post(ApiServer.COMMANDS_PATH, ClearCommand.COMMAND_WORD);
+
+            for (Future<List<Integer>> result : results) {
+                // Every response shows the address book either wholly before or wholly after it was cleared
+                for (int size : result.get()) {
+                    assertTrue(size == personCount || size == 0);
+                }
+            }
+        } finally {
+            readers.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getLatencyStats_afterRequests_countsAndOrderedPercentiles() throws Exception {
+        get(ApiServer.PERSONS_PATH);
+        get(ApiServer.PERSONS_PATH);
+
+        Map<String, Object> stats = (Map<String, Object>) parse(get(ApiServer.STATS_PATH)).get(ApiServer.PERSONS_PATH);
+
+        assertEquals(2, ((Number) stats.get("count")).intValue());
+        double median = ((Number) stats.get("p50Ms")).doubleValue();
+        double max = ((Number) stats.get("maxMs")).doubleValue();
+        assertTrue(median > 0 && median <= max);
+        assertFalse(server.getLatencyStats().isEmpty());
+    }
+}
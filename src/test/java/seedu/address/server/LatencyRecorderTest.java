@@ -0,0 +1,53 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyRecorderTest {
+
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void getPercentilesMillis_noLatencies_zeros() {
+        assertArrayEquals(new double[] {0, 0}, new LatencyRecorder().getPercentilesMillis(50, 99));
+    }
+
+    @Test
+    public void getPercentilesMillis_hundredLatencies_nearestRank() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 100; i >= 1; i--) {
+            recorder.record(i * MILLISECOND);
+        }
+
+        assertEquals(100, recorder.getCount());
+        assertArrayEquals(new double[] {1, 50, 90, 99, 100}, recorder.getPercentilesMillis(0, 50, 90, 99, 100));
+    }
+
+    @Test
+    public void getPercentilesMillis_beyondCapacity_keepsLatestLatencies() {
+        LatencyRecorder recorder = new LatencyRecorder(2);
+        recorder.record(100 * MILLISECOND);
+        recorder.record(2 * MILLISECOND);
+        recorder.record(4 * MILLISECOND);
+
+        assertEquals(3, recorder.getCount());
+        assertArrayEquals(new double[] {2, 4}, recorder.getPercentilesMillis(50, 100));
+    }
+
+    @Test
+    public void getPercentilesMillis_outOfRange_throwsIllegalArgumentException() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(MILLISECOND);
+        assertThrows(IllegalArgumentException.class, () -> recorder.getPercentilesMillis(101));
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyRecorder(0));
+    }
+}
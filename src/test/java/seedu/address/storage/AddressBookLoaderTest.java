@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.GameBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final int PERSON_COUNT = AddressBookLoader.BATCH_SIZE + AddressBookLoader.CHUNK_SIZE + 1;
+    private static final int GAME_COUNT = 3 * AddressBookLoader.CHUNK_SIZE + 1;
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    @Test
+    public void load_severalBatches_keepsOrderOfPersonsAndGames() throws Exception {
+        List<Person> persons = createPersons(PERSON_COUNT);
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < GAME_COUNT; i++) {
+            games.add(new GameBuilder().withDateTime(GameBuilder.DEFAULT_DATE_TIME.plusHours(i))
+                    .withPersons(persons.get(i), persons.get(PERSON_COUNT - 1 - i)).build());
+        }
+
+        AddressBookLoader loader = new AddressBookLoader();
+        for (Person person : persons) {
+            loader.addPerson(new JsonAdaptedPerson(person));
+        }
+        for (Game game : games) {
+            loader.addGame(new JsonAdaptedGame(game));
+        }
+        AddressBook addressBook = loader.load();
+
+        assertEquals(persons, addressBook.getPersonList());
+        assertEquals(games, addressBook.getGameList());
+        Game lastGame = addressBook.getGameList().get(GAME_COUNT - 1);
+        assertEquals(List.of(persons.get(GAME_COUNT - 1), persons.get(PERSON_COUNT - GAME_COUNT)),
+                addressBook.getParticipants(lastGame));
+    }
+
+    @Test
+    public void load_duplicatePersonInLaterBatch_throwsIllegalValueException() throws Exception {
+        AddressBookLoader loader = new AddressBookLoader();
+        for (Person person : createPersons(PERSON_COUNT)) {
+            loader.addPerson(new JsonAdaptedPerson(person));
+        }
+        loader.addPerson(new JsonAdaptedPerson(new PersonBuilder().withName("Person 0").build()));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                loader::load);
+    }
+
+    @Test
+    public void load_duplicateGame_throwsIllegalValueException() throws Exception {
+        Person person = new PersonBuilder().build();
+        Game game = new GameBuilder().withPersons(person).build();
+        AddressBookLoader loader = new AddressBookLoader();
+        loader.addPerson(new JsonAdaptedPerson(person));
+        loader.addGame(new JsonAdaptedGame(game));
+        loader.addGame(new JsonAdaptedGame(new GameBuilder(game).withSport("tennis").build()));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_GAME, loader::load);
+    }
+
+    @Test
+    public void convertAll_manyChunks_keepsOrder() throws Exception {
+        List<Integer> sources = IntStream.range(0, 10 * AddressBookLoader.CHUNK_SIZE + 7).boxed()
+                .collect(Collectors.toList());
+
+        assertEquals(sources.stream().map(String::valueOf).collect(Collectors.toList()),
+                AddressBookLoader.convertAll(sources, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_failuresInSeveralChunks_throwsFirstFailure() {
+        List<Integer> sources = IntStream.range(0, 10 * AddressBookLoader.CHUNK_SIZE).boxed()
+                .collect(Collectors.toList());
+        int firstFailure = 3 * AddressBookLoader.CHUNK_SIZE + 5;
+
+        assertThrows(IllegalValueException.class, "Invalid " + firstFailure, () ->
+                AddressBookLoader.convertAll(sources, i -> {
+                    if (i == firstFailure || i == firstFailure + 1 || i == 8 * AddressBookLoader.CHUNK_SIZE) {
+                        throw new IllegalValueException("Invalid " + i);
+                    }
+                    return i;
+                }));
+    }
+
+    @Test
+    public void convertAll_noSources_emptyList() throws Exception {
+        assertEquals(List.of(), AddressBookLoader.convertAll(List.of(), String::valueOf));
+    }
+}
@@ -0,0 +1,258 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class BackgroundAddressBookSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundAddressBookSaver(null));
+    }
+
+    @Test
+    public void flush_burstOfRequests_writesLatestSnapshotOnce() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+        addressBook.addPerson(BENSON);
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+        addressBook.addPerson(CARL);
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+        saver.flush();
+        saver.flush();
+
+        assertEquals(1, storage.saved.size());
+        assertEquals(addressBook, new AddressBook(storage.saved.get(0)));
+        saver.shutdown();
+    }
+
+    @Test
+    public void flush_burstOfRequests_takesOneSnapshot() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        AtomicInteger snapshotCount = new AtomicInteger();
+        Supplier<AddressBook> snapshotSupplier = () -> {
+            snapshotCount.incrementAndGet();
+            return AddressBook.copyOf(addressBook);
+        };
+
+        saver.requestSave(snapshotSupplier, addressBook.getVersion());
+        addressBook.addPerson(BENSON);
+        saver.requestSave(snapshotSupplier, addressBook.getVersion());
+        saver.flush();
+
+        assertEquals(1, snapshotCount.get());
+        saver.shutdown();
+    }
+
+    @Test
+    public void flush_snapshotOlderThanRequested_requestKeptPending() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        Queue<AddressBook> snapshots = new ArrayDeque<>();
+        snapshots.add(AddressBook.copyOf(addressBook));
+        addressBook.addPerson(BENSON);
+        snapshots.add(AddressBook.copyOf(addressBook));
+
+        saver.requestSave(snapshots::remove, addressBook.getVersion());
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(addressBook, storage.saved.get(1));
+        assertEquals(addressBook.getVersion(), saver.getLastSavedVersion());
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_unchangedVersion_skipsSave() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        assertEquals(BackgroundAddressBookSaver.NO_SAVED_VERSION, saver.getLastSavedVersion());
+
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+        saver.flush();
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+        assertEquals(addressBook.getVersion(), saver.getLastSavedVersion());
+
+        addressBook.addPerson(BENSON);
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+        saver.flush();
+        assertEquals(2, storage.saved.size());
+        assertEquals(addressBook.getVersion(), saver.getLastSavedVersion());
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_noDelay_writesInBackground() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0, 0);
+        CountDownLatch written = new CountDownLatch(1);
+        saver.setSaveListener(result -> written.countDown());
+
+        saver.requestSave(new AddressBookBuilder().withPerson(ALICE)::build, 1);
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(1, storage.saved.size());
+        assertFalse(saver.takeFailure().isPresent());
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_backgroundWriteFails_reportsFailureOnce() throws Exception {
+        IOException exception = new IOException("disk full");
+        AddressBookStorageStub storage = new AddressBookStorageStub(exception);
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0, 0);
+        CountDownLatch written = new CountDownLatch(1);
+        List<Optional<IOException>> results = new ArrayList<>();
+        saver.setSaveListener(result -> {
+            results.add(result);
+            written.countDown();
+        });
+
+        saver.requestSave(AddressBook::new, 1);
+
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Optional.of(exception)), results);
+        assertEquals(Optional.of(exception), saver.takeFailure());
+        assertEquals(Optional.empty(), saver.takeFailure());
+        assertThrows(IOException.class, saver::shutdown);
+    }
+
+    @Test
+    public void shutdown_backgroundWriteFailed_writesFailedRequest() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub(new IOException("disk full"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, 0, 0);
+        CountDownLatch written = new CountDownLatch(1);
+        saver.setSaveListener(result -> written.countDown());
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+        storage.setFailure(null);
+        saver.shutdown();
+
+        assertEquals(1, storage.saved.size());
+        assertEquals(addressBook, storage.saved.get(0));
+        assertEquals(addressBook.getVersion(), saver.getLastSavedVersion());
+    }
+
+    @Test
+    public void shutdown_pendingSnapshot_writesAndRejectsFurtherRequests() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+
+        saver.requestSave(new AddressBookBuilder().withPerson(ALICE)::build, 1);
+        saver.shutdown();
+
+        assertEquals(1, storage.saved.size());
+        assertThrows(IllegalStateException.class, () -> saver.requestSave(AddressBook::new, 1));
+    }
+
+    @Test
+    public void flush_writeFails_throwsIoExceptionUntilWritten() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub(new IOException("disk full"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage, LONG_DELAY_MILLIS,
+                LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+
+        saver.requestSave(() -> AddressBook.copyOf(addressBook), addressBook.getVersion());
+
+        assertThrows(IOException.class, saver::flush);
+        assertThrows(IOException.class, saver::flush);
+        storage.setFailure(null);
+        saver.flush();
+        assertEquals(1, storage.saved.size());
+        assertEquals(addressBook.getVersion(), saver.getLastSavedVersion());
+        saver.shutdown();
+    }
+
+    /**
+     * An {@code AddressBookStorage} that remembers the address books saved to it, or fails every save while it has a
+     * failure set.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private IOException failure;
+
+        AddressBookStorageStub() {
+            this(null);
+        }
+
+        AddressBookStorageStub(IOException failure) {
+            this.failure = failure;
+        }
+
+        synchronized void setFailure(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Path.of("addressbook.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveAddressBook(addressBook);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.person.PersonId;
+import seedu.address.testutil.GameBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getTypicalAddressBookWithGames() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addGame(new GameBuilder().withPersons(ALICE, BENSON).build());
+        addressBook.addGame(new GameBuilder().withDateTime(GameBuilder.DEFAULT_DATE_TIME.plusDays(1).plusNanos(5))
+                .withLocation("402001").withPersons(BENSON).build());
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookWithGames();
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getGameList(), readBack.getGameList());
+        assertEquals(List.of(ALICE, BENSON), readBack.getParticipants(readBack.getGameList().get(0)));
+        assertEquals(ALICE.getId(), readBack.getPersonList().get(0).getId());
+
+        original.addPerson(HOON);
+        original.removeGame(original.getGameList().get(0));
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBookWithGames();
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(binaryFilePath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(jsonFilePath));
+        assertTrue(Files.size(binaryFilePath) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_gameWithMissingParticipant_gameRemoved() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        AddressBook original = getTypicalAddressBook();
+        Game game = new GameBuilder().build();
+        List<PersonId> participantIds = new ArrayList<>(game.getParticipantIds());
+        participantIds.add(PersonId.generate());
+        original.addGame(game.withParticipantIds(participantIds));
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertTrue(readBack.getGameList().isEmpty());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        byte[] header = Arrays.copyOf(BinaryAddressBookStorage.MAGIC, BinaryAddressBookStorage.MAGIC.length + 1);
+        header[header.length - 1] = BinaryAddressBookStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, header);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_impossibleCount_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        byte[] header = Arrays.copyOf(BinaryAddressBookStorage.MAGIC, BinaryAddressBookStorage.MAGIC.length + 6);
+        header[BinaryAddressBookStorage.MAGIC.length] = BinaryAddressBookStorage.FORMAT_VERSION;
+        // A string table of Integer.MAX_VALUE entries, in a file with no bytes left for them
+        byte[] count = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        System.arraycopy(count, 0, header, BinaryAddressBookStorage.MAGIC.length + 1, count.length);
+        Files.write(filePath, header);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithGames());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.GameBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path snapshotFilePath;
+    private Path journalFilePath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotFilePath = testFolder.resolve("addressbook.json");
+        journalFilePath = testFolder.resolve("addressbook.journal");
+        addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        addressBook.addGame(new GameBuilder().withPersons(ALICE, BENSON).build());
+    }
+
+    private JournalingAddressBookStorage createStorage(int compactionThreshold) {
+        return new JournalingAddressBookStorage(new JsonAddressBookStorage(snapshotFilePath), journalFilePath,
+                compactionThreshold);
+    }
+
+    @Test
+    public void getJournalFilePath_dataFile_replacesExtension() {
+        assertEquals(Path.of("data", "addressbook.journal"),
+                JournalingAddressBookStorage.getJournalFilePath(Path.of("data", "addressbook.json")));
+        assertEquals(Path.of("data", "addressbook.journal"),
+                JournalingAddressBookStorage.getJournalFilePath(Path.of("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        createStorage(10).saveAddressBook(addressBook);
+
+        assertTrue(Files.exists(snapshotFilePath));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendsToJournal() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(snapshotFilePath);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(snapshotFilePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_writesNothing() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_journalWithEveryKindOfRecord_replaysOnTopOfSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(100);
+        storage.saveAddressBook(addressBook);
+
+        Game game = addressBook.getGameList().get(0);
+        addressBook.addPerson(HOON);
+        addressBook.setGame(game, new GameBuilder(game).withLocation("402001").withPersons(ALICE, HOON).build());
+        addressBook.addGame(new GameBuilder().withDateTime(GameBuilder.DEFAULT_DATE_TIME.plusDays(1))
+                .withPersons(BENSON).build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.removeGame(addressBook.getGameList().get(0));
+        storage.saveAddressBook(addressBook);
+
+        AddressBook readBack = new AddressBook(createStorage(100).readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        assertEquals(List.of(BENSON), readBack.getParticipants(readBack.getGameList().get(0)));
+    }
+
+    @Test
+    public void readAddressBook_namesSwappedThroughRenames_replaysWithoutClash() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+
+        Person tmp = new PersonBuilder(BENSON).withName("Tmp").build();
+        addressBook.setPerson(BENSON, tmp);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName(BENSON.getName().fullName).build());
+        addressBook.setPerson(tmp, new PersonBuilder(tmp).withName(ALICE.getName().fullName).build());
+        storage.saveAddressBook(AddressBook.copyOf(addressBook));
+
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalExceedsThreshold_compactsIntoSnapshot() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(1);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook.getPersonList(),
+                new JsonAddressBookStorage(snapshotFilePath).readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoresRecord() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+
+        Files.writeString(journalFilePath, "{\"op\":\"putPer", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecordBeforeLast_throwsJournalLoadingException() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(journalFilePath, "not json\n{\"op\":\"removePerson\",\"personId\":\""
+                + ALICE.getId() + "\"}\n", StandardCharsets.UTF_8);
+
+        assertThrows(JournalLoadingException.class, () -> createStorage(10).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalOlderThanSnapshot_ignoresJournal() throws Exception {
+        JournalingAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        AddressBook snapshot = new AddressBook(addressBook);
+        addressBook.addPerson(CARL);
+        storage.saveAddressBook(addressBook);
+
+        Files.setLastModifiedTime(journalFilePath, FileTime.fromMillis(
+                Files.getLastModifiedTime(snapshotFilePath).toMillis() - 1000));
+
+        assertEquals(snapshot, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotToThatPath() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        createStorage(10).saveAddressBook(addressBook, otherFilePath);
+
+        assertFalse(Files.exists(snapshotFilePath));
+        assertEquals(addressBook, new AddressBook(createStorage(10).readAddressBook(otherFilePath).get()));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.storage.JsonAdaptedGame.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGames.VOLLEYBALL;
@@ -11,6 +12,9 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.game.Game;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Sport;
 import seedu.address.testutil.TypicalPersons;
 
@@ -21,42 +25,88 @@ public class JsonAdaptedGameTest {
     private static final String VOLLEYBALL_NAME = "volleyball";
     private static final String VALID_DATETIME = "2025-04-04T15:00:00";
     private static final String VALID_LOCATION = "259366";
-    private static final List<JsonAdaptedPerson> VALID_PERSONS = List.of(TypicalPersons.getTypicalPersons().get(0),
-            TypicalPersons.getTypicalPersons().get(1)).stream()
+    private static final List<String> VALID_PARTICIPANT_IDS = List.of(TypicalPersons.ALICE, TypicalPersons.BENSON)
+            .stream()
+            .map(person -> person.getId().value)
+            .collect(Collectors.toList());
+    private static final List<JsonAdaptedPerson> LEGACY_PARTICIPANTS = List.of(TypicalPersons.ALICE,
+            TypicalPersons.BENSON).stream()
             .map(JsonAdaptedPerson::new)
             .collect(Collectors.toList());
 
+    private final AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+
     @Test
     public void toModelType_validGameDetails_returnsGame() throws Exception {
-        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, VALID_PERSONS, VALID_LOCATION);
-        assertEquals(VOLLEYBALL, game.toModelType());
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, VALID_PARTICIPANT_IDS, null,
+                VALID_LOCATION);
+        Game modelGame = game.toModelType(addressBook);
+        assertEquals(VOLLEYBALL, modelGame);
+        assertEquals(List.of(TypicalPersons.ALICE.getId(), TypicalPersons.BENSON.getId()),
+                modelGame.getParticipantIds());
+    }
+
+    @Test
+    public void toModelType_legacyParticipants_resolvesParticipantsByName() throws Exception {
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, null, LEGACY_PARTICIPANTS,
+                VALID_LOCATION);
+        assertEquals(List.of(TypicalPersons.ALICE, TypicalPersons.BENSON),
+                addressBook.getParticipants(game.toModelType(addressBook)));
+    }
+
+    @Test
+    public void toModelType_unknownLegacyParticipant_failsParticipantValidation() throws Exception {
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, null,
+                List.of(new JsonAdaptedPerson(TypicalPersons.AMY)), VALID_LOCATION);
+        Game modelGame = game.toModelType(addressBook);
+        assertFalse(modelGame.getParticipantIds().isEmpty());
+        assertThrows(IllegalValueException.class, () -> addressBook.validateGameParticipants(modelGame));
+    }
+
+    @Test
+    public void toModelType_invalidParticipantId_throwsIllegalValueException() {
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, List.of("alice"), null,
+                VALID_LOCATION);
+        assertThrows(IllegalValueException.class, PersonId.MESSAGE_CONSTRAINTS, () -> game.toModelType(addressBook));
+    }
+
+    @Test
+    public void toModelType_duplicateParticipantIds_throwsIllegalValueException() {
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME,
+                List.of(VALID_PARTICIPANT_IDS.get(0), VALID_PARTICIPANT_IDS.get(0)), null, VALID_LOCATION);
+        assertThrows(IllegalValueException.class, JsonAdaptedGame.MESSAGE_DUPLICATE_PARTICIPANT, () ->
+                game.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_invalidDateTime_throwsIllegalValueException() {
-        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, INVALID_DATETIME, VALID_PERSONS, VALID_LOCATION);
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, INVALID_DATETIME, VALID_PARTICIPANT_IDS, null,
+                VALID_LOCATION);
         String expectedMessage = String.format("Invalid date/time format: %s", INVALID_DATETIME);
-        assertThrows(IllegalValueException.class, expectedMessage, game::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> game.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_nullDateTime_throwsIllegalValueException() {
-        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, null, VALID_PERSONS, VALID_LOCATION);
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, null, VALID_PARTICIPANT_IDS, null,
+                VALID_LOCATION);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "dateTime");
-        assertThrows(IllegalValueException.class, expectedMessage, game::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> game.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_invalidLocation_throwsIllegalValueException() {
-        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, VALID_PERSONS, INVALID_LOCATION);
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, VALID_PARTICIPANT_IDS, null,
+                INVALID_LOCATION);
         String expectedMessage = Sport.getMessageConstraints();
-        assertThrows(IllegalValueException.class, expectedMessage, game::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> game.toModelType(addressBook));
     }
 
     @Test
     public void toModelType_nullLocation_throwsIllegalValueException() {
-        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, VALID_PERSONS, null);
+        JsonAdaptedGame game = new JsonAdaptedGame(VOLLEYBALL_NAME, VALID_DATETIME, VALID_PARTICIPANT_IDS, null,
+                null);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "location");
-        assertThrows(IllegalValueException.class, expectedMessage, game::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> game.toModelType(addressBook));
     }
 }
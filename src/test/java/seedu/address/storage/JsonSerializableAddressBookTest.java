@@ -3,14 +3,24 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.game.Game;
 import seedu.address.testutil.TypicalPersons;
 
 /**
@@ -23,6 +33,10 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicatePersonIdAddressBook.json");
+    private static final Path LEGACY_PARTICIPANTS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyParticipantsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -56,4 +70,96 @@ public class JsonSerializableAddressBookTest {
                 JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(
+                DUPLICATE_PERSON_ID_FILE, JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_legacyParticipantsFile_migratesParticipantsToIds() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(
+                LEGACY_PARTICIPANTS_FILE, JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Game game = addressBookFromFile.getGameList().get(0);
+        assertEquals(List.of(TypicalPersons.ALICE, TypicalPersons.BENSON), addressBookFromFile.getParticipants(game));
+        assertEquals(addressBookFromFile.getPersonList().get(0).getId(), game.getParticipantIds().get(0));
+    }
+
+    @Test
+    public void toModelType_savedAddressBook_keepsParticipantIds() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(
+                LEGACY_PARTICIPANTS_FILE, JsonSerializableAddressBook.class).get().toModelType();
+
+        AddressBook reloaded = new JsonSerializableAddressBook(original).toModelType();
+
+        assertEquals(original.getPersonList().get(1).getId(), reloaded.getPersonList().get(1).getId());
+        assertEquals(original.getGameList().get(0).getParticipantIds(),
+                reloaded.getGameList().get(0).getParticipantIds());
+    }
+
+    @Test
+    public void readFrom_typicalPersonsFile_sameAsToModelType() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(
+                TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get().toModelType();
+
+        assertEquals(expected, readFrom(Files.readString(TYPICAL_PERSONS_FILE)));
+    }
+
+    @Test
+    public void readFrom_duplicatePersonsFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readFrom(Files.readString(DUPLICATE_PERSON_FILE)));
+    }
+
+    @Test
+    public void readFrom_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> readFrom("[]"));
+        assertThrows(IOException.class, () -> readFrom(""));
+        assertThrows(IOException.class, () -> readFrom("{\"persons\": {}}"));
+    }
+
+    @Test
+    public void readFrom_gamesBeforePersons_resolvesParticipants() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(
+                LEGACY_PARTICIPANTS_FILE, JsonSerializableAddressBook.class).get().toModelType();
+        String json = writeTo(original);
+        int gamesStart = json.indexOf("\"games\"");
+        String reordered = "{" + json.substring(gamesStart, json.lastIndexOf('}')) + ", "
+                + json.substring(json.indexOf('{') + 1, gamesStart).replaceFirst(",\\s*$", "") + "}";
+
+        AddressBook reloaded = readFrom(reordered);
+
+        assertEquals(original, reloaded);
+        assertEquals(original.getGameList().get(0).getParticipantIds(),
+                reloaded.getGameList().get(0).getParticipantIds());
+    }
+
+    @Test
+    public void writeTo_savedAddressBook_sameAsSerializableAddressBook() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(
+                LEGACY_PARTICIPANTS_FILE, JsonSerializableAddressBook.class).get().toModelType();
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), writeTo(original));
+    }
+
+    private static AddressBook readFrom(String json) throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            return JsonSerializableAddressBook.readFrom(parser);
+        }
+    }
+
+    private static String writeTo(AddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            JsonSerializableAddressBook.writeTo(addressBook, generator);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
 }
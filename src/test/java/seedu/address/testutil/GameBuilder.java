@@ -1,14 +1,16 @@
 package seedu.address.testutil;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.LocationUtil;
 import seedu.address.model.game.Game;
 import seedu.address.model.person.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Sport;
-import seedu.address.model.util.SampleDataUtil;
 
 /**
  * A utility class to help with building Game objects.
@@ -25,7 +27,7 @@ public class GameBuilder {
     private LocalDateTime dateTime;
     private Location location;
 
-    private List<Person> personList;
+    private List<PersonId> participantIds;
 
 
     /**
@@ -35,7 +37,7 @@ public class GameBuilder {
         sport = DEFAULT_SPORT;
         dateTime = DEFAULT_DATE_TIME;
         location = LocationUtil.createLocation(DEFAULT_LOCATION);
-        personList = DEFAULT_PARTICIPANTS;
+        participantIds = idsOf(DEFAULT_PARTICIPANTS);
     }
 
     /**
@@ -45,7 +47,7 @@ public class GameBuilder {
         sport = gameToCopy.getSport();
         dateTime = gameToCopy.getDateTime();
         location = gameToCopy.getLocation();
-        personList = gameToCopy.getParticipants();
+        participantIds = gameToCopy.getParticipantIds();
     }
 
     /**
@@ -73,14 +75,18 @@ public class GameBuilder {
     }
 
     /**
-     * Parses the {@code Persons} into a {@code List<Person>} and set it to the {@code Game} that we are building.
+     * Sets the ids of the {@code persons} as the participants of the {@code Game} that we are building.
      */
     public GameBuilder withPersons(Person ... persons) {
-        this.personList = SampleDataUtil.getPersonList(persons);
+        this.participantIds = idsOf(Arrays.asList(persons));
         return this;
     }
 
     public Game build() {
-        return new Game(sport, dateTime, location, personList);
+        return new Game(sport, dateTime, location, participantIds);
+    }
+
+    private static List<PersonId> idsOf(List<Person> persons) {
+        return persons.stream().map(Person::getId).collect(Collectors.toList());
     }
 }